@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data;
+
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of parameterized collections and maps generation using <code>TypeProvider</code>.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class GenericTypeGenerationBenchmark {
+
+    private static final TypeProvider<List<Set<Long>>> LIST_OF_SETS_TYPE = new TypeProvider<List<Set<Long>>>() {};
+    private static final TypeProvider<List<String>> LIST_TYPE = new TypeProvider<List<String>>() {};
+    private static final TypeProvider<Map<String, List<Integer>>> MAP_OF_LISTS_TYPE
+            = new TypeProvider<Map<String, List<Integer>>>() {};
+    private static final TypeProvider<Map<String, String>> MAP_TYPE = new TypeProvider<Map<String, String>>() {};
+    private final TestDataGenerator testDataGenerator = new TestDataGenerator();
+
+    @Benchmark
+    public List<String> generateList() {
+        return testDataGenerator.generate(LIST_TYPE);
+    }
+
+    @Benchmark
+    public List<Set<Long>> generateListOfSets() {
+        return testDataGenerator.generate(LIST_OF_SETS_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, String> generateMap() {
+        return testDataGenerator.generate(MAP_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, List<Integer>> generateMapOfLists() {
+        return testDataGenerator.generate(MAP_OF_LISTS_TYPE);
+    }
+}
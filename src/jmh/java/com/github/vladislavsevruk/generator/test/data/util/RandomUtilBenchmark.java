@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares primitive <code>RandomUtil</code> methods with stream-based generation that was used before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class RandomUtilBenchmark {
+
+    private static final int ALPHANUMERIC_SYMBOLS_NUMBER = 62;
+    private static final int DIGITS_AND_UPPER_LETTERS_NUMBER = 36;
+    private static final int DIGITS_NUMBER = 10;
+    private static final int STRING_LENGTH = 16;
+    private final Random random = new Random();
+
+    @Benchmark
+    public double nextDouble() {
+        return RandomUtil.nextDouble(0, Double.MAX_VALUE);
+    }
+
+    @Benchmark
+    public int nextInt() {
+        return RandomUtil.nextInt(0, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public long nextLong() {
+        return RandomUtil.nextLong(0, Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public String nextString() {
+        return RandomUtil.getString(STRING_LENGTH);
+    }
+
+    @Benchmark
+    public Double streamDouble() {
+        return random.doubles(1, 0, Double.MAX_VALUE).findFirst().getAsDouble();
+    }
+
+    @Benchmark
+    public Integer streamInt() {
+        return random.ints(1, 0, Integer.MAX_VALUE).findFirst().getAsInt();
+    }
+
+    @Benchmark
+    public Long streamLong() {
+        return random.longs(1, 0, Long.MAX_VALUE).findFirst().getAsLong();
+    }
+
+    @Benchmark
+    public String streamString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        random.ints('0', '0' + ALPHANUMERIC_SYMBOLS_NUMBER).limit(STRING_LENGTH)
+                .map(RandomUtilBenchmark::makeShiftsForLetters).forEach(stringBuilder::appendCodePoint);
+        return stringBuilder.toString();
+    }
+
+    private static int makeShiftsForLetters(int value) {
+        int index = value - '0';
+        if (index >= DIGITS_AND_UPPER_LETTERS_NUMBER) {
+            return 'a' + index - DIGITS_AND_UPPER_LETTERS_NUMBER;
+        }
+        return index >= DIGITS_NUMBER ? 'A' + index - DIGITS_NUMBER : value;
+    }
+}
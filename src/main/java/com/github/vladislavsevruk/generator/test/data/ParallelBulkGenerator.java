@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data;
+
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
+import com.github.vladislavsevruk.generator.test.data.engine.ReferencePool;
+import com.github.vladislavsevruk.generator.test.data.engine.TestDataGenerationEngine;
+import com.github.vladislavsevruk.generator.test.data.exception.GenerationException;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Generates models in parallel splitting them into chunks of consecutive items. Every chunk is generated by single
+ * worker directly into its own range of presized result list so models order is always the same as for sequential
+ * generation and no intermediate buffers are allocated.
+ */
+final class ParallelBulkGenerator {
+
+    private static final int CHUNKS_PER_WORKER = 4;
+    private final Executor executor;
+    private final TestDataGenerationConfig testDataGenerationConfig;
+    private final TestDataGenerationEngine testDataGenerationEngine;
+
+    ParallelBulkGenerator(TestDataGenerationEngine testDataGenerationEngine,
+            TestDataGenerationConfig testDataGenerationConfig, Executor executor) {
+        this.testDataGenerationEngine = testDataGenerationEngine;
+        this.testDataGenerationConfig = testDataGenerationConfig;
+        this.executor = executor;
+    }
+
+    /**
+     * Generates list with received number of models of received type.
+     *
+     * @param typeMeta    <code>TypeMeta</code> with metadata of models to generate.
+     * @param itemsNumber <code>int</code> with number of models to generate.
+     * @param <T>         type of models to generate.
+     * @return list of generated models.
+     */
+    <T> List<T> generateList(TypeMeta<T> typeMeta, int itemsNumber) {
+        int chunkSize = getChunkSize(itemsNumber);
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        ReferencePool referencePool = new ReferencePool();
+        // chunks only replace elements of their own ranges so list structure isn't modified concurrently
+        List<T> models = new ArrayList<>(Collections.nCopies(itemsNumber, null));
+        for (int chunkStart = 0; chunkStart < itemsNumber; chunkStart += chunkSize) {
+            int fromIndex = chunkStart;
+            int toIndex = Math.min(itemsNumber, chunkStart + chunkSize);
+            chunks.add(CompletableFuture
+                    .runAsync(() -> generateChunk(typeMeta, models, fromIndex, toIndex, referencePool), executor));
+        }
+        // joining chunks makes their elements visible to current thread
+        chunks.forEach(chunk -> join(chunks, chunk));
+        return models;
+    }
+
+    private <T> void generateChunk(TypeMeta<T> typeMeta, List<T> models, int fromIndex, int toIndex,
+            ReferencePool referencePool) {
+        for (int i = fromIndex; i < toIndex; ++i) {
+            models.set(i, GenerationSession.runInNewSession(testDataGenerationConfig, i, referencePool,
+                    () -> testDataGenerationEngine.generate(testDataGenerationConfig, typeMeta)));
+        }
+    }
+
+    private int getChunkSize(int itemsNumber) {
+        int workersNumber = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        int chunksNumber = Math.max(1, workersNumber * CHUNKS_PER_WORKER);
+        return Math.max(1, (itemsNumber + chunksNumber - 1) / chunksNumber);
+    }
+
+    private void join(List<CompletableFuture<Void>> chunks, CompletableFuture<Void> chunk) {
+        try {
+            chunk.join();
+        } catch (CompletionException completionException) {
+            chunks.forEach(future -> future.cancel(false));
+            Throwable cause = completionException.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new GenerationException("Failed to generate models in parallel.", cause);
+        }
+    }
+}
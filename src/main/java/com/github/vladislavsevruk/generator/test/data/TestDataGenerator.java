@@ -26,17 +26,30 @@ package com.github.vladislavsevruk.generator.test.data;
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContextManager;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationTrace;
+import com.github.vladislavsevruk.generator.test.data.engine.ReferencePool;
+import com.github.vladislavsevruk.generator.test.data.engine.TestDataGenerationEngine;
 import com.github.vladislavsevruk.generator.test.data.exception.InstanceCreationException;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import com.github.vladislavsevruk.resolver.util.PrimitiveWrapperUtil;
 import lombok.extern.log4j.Log4j2;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
- * This tool is designed for testing data generation for POJOs using public constructors without arguments and public
- * setters.
+ * This tool is designed for testing data generation for POJOs. Models are created using public constructors without
+ * arguments and filled using public setters. Models without such constructors are created using public all-args
+ * constructors, builders or static factory methods which parameters match model fields.
  */
 @Log4j2
 public class TestDataGenerator {
@@ -87,36 +100,358 @@ public class TestDataGenerator {
 
     /**
      * Generates testing data into model of received type. Creates instance of received type using public constructor
-     * without arguments and fills it using public setters from target model.
+     * without arguments or matching all-args constructor, builder or static factory method and fills it using public
+     * setters from target model.
      *
      * @param type target model class.
      * @param <T>  the type represented by target class.
      * @return model instance with generated testing data.
-     * @throws InstanceCreationException if target class is abstract or has no public constructor without arguments.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
      */
     public <T> T generate(Class<T> type) {
         Objects.requireNonNull(type, "Target type should not be null.");
         Class<T> typeWrapper = PrimitiveWrapperUtil.wrap(type);
         TypeMeta<T> typeMeta = new TypeMeta<>(typeWrapper);
-        return testDataGenerationContext.getTestDataGenerationEngine().generate(testDataGenerationConfig, typeMeta);
+        return generate(typeMeta);
+    }
+
+    /**
+     * Generates testing data into model of received type and records every generated object with its generator and
+     * generation duration to received trace. Can be used for diagnosing generation of specific type.
+     *
+     * @param type  target model class.
+     * @param trace <code>GenerationTrace</code> to record generated objects to.
+     * @param <T>   the type represented by target class.
+     * @return model instance with generated testing data.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     * @see GenerationTrace
+     */
+    public <T> T generate(Class<T> type, GenerationTrace trace) {
+        Objects.requireNonNull(type, "Target type should not be null.");
+        Class<T> typeWrapper = PrimitiveWrapperUtil.wrap(type);
+        return generate(new TypeMeta<>(typeWrapper), trace);
     }
 
     /**
      * Generates testing data into model of received type. Uses descendants of <code>TypeProvider</code> for receiving
      * meta information of generic types. Creates instance of received type using public constructor without arguments
-     * and fills it using public setters from target model.
+     * or matching all-args constructor, builder or static factory method and fills it using public setters from target
+     * model.
      *
      * @param typeProvider <code>TypeProvider</code> that provides generic type of target model.
      * @param <T>          target type represented by <code>TypeProvider</code>.
      * @return model instance with generated testing data.
-     * @throws InstanceCreationException if target class is abstract or has no public constructor without arguments.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
      * @see TypeProvider
      */
     @SuppressWarnings("unchecked")
     public <T> T generate(TypeProvider<T> typeProvider) {
         Objects.requireNonNull(typeProvider, "Target type provider should not be null.");
         TypeMeta<?> typeMeta = typeProvider.getTypeMeta();
-        return testDataGenerationContext.getTestDataGenerationEngine()
-                .generate(testDataGenerationConfig, (TypeMeta<T>) typeMeta);
+        return generate((TypeMeta<T>) typeMeta);
+    }
+
+    /**
+     * Generates testing data into model of received type and records every generated object with its generator and
+     * generation duration to received trace. Uses descendants of <code>TypeProvider</code> for receiving meta
+     * information of generic types. Can be used for diagnosing generation of specific type.
+     *
+     * @param typeProvider <code>TypeProvider</code> that provides generic type of target model.
+     * @param trace        <code>GenerationTrace</code> to record generated objects to.
+     * @param <T>          target type represented by <code>TypeProvider</code>.
+     * @return model instance with generated testing data.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     * @see GenerationTrace
+     * @see TypeProvider
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T generate(TypeProvider<T> typeProvider, GenerationTrace trace) {
+        Objects.requireNonNull(typeProvider, "Target type provider should not be null.");
+        return generate((TypeMeta<T>) typeProvider.getTypeMeta(), trace);
+    }
+
+    /**
+     * Generates array with received number of models of received type. Generator for target type is resolved only
+     * once for all models.
+     *
+     * @param type        target model class.
+     * @param itemsNumber <code>int</code> with number of models to generate.
+     * @param <T>         the type represented by target class.
+     * @return array of models with generated testing data.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     */
+    public <T> T[] generateArray(Class<T> type, int itemsNumber) {
+        Objects.requireNonNull(type, "Target type should not be null.");
+        Class<T> typeWrapper = PrimitiveWrapperUtil.wrap(type);
+        return generateArray(new TypeMeta<>(typeWrapper), itemsNumber);
+    }
+
+    /**
+     * Generates array with received number of models of type represented by received <code>TypeProvider</code>.
+     * Generator for target type is resolved only once for all models.
+     *
+     * @param typeProvider <code>TypeProvider</code> that provides generic type of target model.
+     * @param itemsNumber  <code>int</code> with number of models to generate.
+     * @param <T>          target type represented by <code>TypeProvider</code>.
+     * @return array of models with generated testing data.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     * @see TypeProvider
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T[] generateArray(TypeProvider<T> typeProvider, int itemsNumber) {
+        Objects.requireNonNull(typeProvider, "Target type provider should not be null.");
+        return generateArray((TypeMeta<T>) typeProvider.getTypeMeta(), itemsNumber);
+    }
+
+    /**
+     * Generates received number of models of received type and passes them to received consumer one by one without
+     * collecting. Generator for target type is resolved only once for all models.
+     *
+     * @param type        target model class.
+     * @param itemsNumber <code>int</code> with number of models to generate.
+     * @param consumer    <code>Consumer</code> that receives generated models.
+     * @param <T>         the type represented by target class.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     */
+    public <T> void generateInto(Class<T> type, int itemsNumber, Consumer<? super T> consumer) {
+        Objects.requireNonNull(type, "Target type should not be null.");
+        Class<T> typeWrapper = PrimitiveWrapperUtil.wrap(type);
+        generateInto(new TypeMeta<>(typeWrapper), itemsNumber, consumer);
+    }
+
+    /**
+     * Generates received number of models of type represented by received <code>TypeProvider</code> and passes them
+     * to received consumer one by one without collecting. Generator for target type is resolved only once for all
+     * models.
+     *
+     * @param typeProvider <code>TypeProvider</code> that provides generic type of target model.
+     * @param itemsNumber  <code>int</code> with number of models to generate.
+     * @param consumer     <code>Consumer</code> that receives generated models.
+     * @param <T>          target type represented by <code>TypeProvider</code>.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     * @see TypeProvider
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void generateInto(TypeProvider<T> typeProvider, int itemsNumber, Consumer<? super T> consumer) {
+        Objects.requireNonNull(typeProvider, "Target type provider should not be null.");
+        generateInto((TypeMeta<T>) typeProvider.getTypeMeta(), itemsNumber, consumer);
+    }
+
+    /**
+     * Generates list with received number of models of received type. Generator for target type is resolved only once
+     * for all models.
+     *
+     * @param type        target model class.
+     * @param itemsNumber <code>int</code> with number of models to generate.
+     * @param <T>         the type represented by target class.
+     * @return list of models with generated testing data.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     */
+    public <T> List<T> generateList(Class<T> type, int itemsNumber) {
+        Objects.requireNonNull(type, "Target type should not be null.");
+        Class<T> typeWrapper = PrimitiveWrapperUtil.wrap(type);
+        return generateList(new TypeMeta<>(typeWrapper), itemsNumber);
+    }
+
+    /**
+     * Generates list with received number of models of type represented by received <code>TypeProvider</code>.
+     * Generator for target type is resolved only once for all models.
+     *
+     * @param typeProvider <code>TypeProvider</code> that provides generic type of target model.
+     * @param itemsNumber  <code>int</code> with number of models to generate.
+     * @param <T>          target type represented by <code>TypeProvider</code>.
+     * @return list of models with generated testing data.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     * @see TypeProvider
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> generateList(TypeProvider<T> typeProvider, int itemsNumber) {
+        Objects.requireNonNull(typeProvider, "Target type provider should not be null.");
+        return generateList((TypeMeta<T>) typeProvider.getTypeMeta(), itemsNumber);
+    }
+
+    /**
+     * Generates list with received number of models of received type in parallel using common
+     * <code>ForkJoinPool</code>. Models order is deterministic so list is equal to result of sequential bulk
+     * generation if seed is set.
+     *
+     * @param type        target model class.
+     * @param itemsNumber <code>int</code> with number of models to generate.
+     * @param <T>         the type represented by target class.
+     * @return list of models with generated testing data.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     */
+    public <T> List<T> generateListInParallel(Class<T> type, int itemsNumber) {
+        return generateListInParallel(type, itemsNumber, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates list with received number of models of received type in parallel using received executor. Models
+     * order is deterministic so list is equal to result of sequential bulk generation if seed is set.
+     *
+     * @param type        target model class.
+     * @param itemsNumber <code>int</code> with number of models to generate.
+     * @param executor    <code>Executor</code> that runs generation workers.
+     * @param <T>         the type represented by target class.
+     * @return list of models with generated testing data.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     */
+    public <T> List<T> generateListInParallel(Class<T> type, int itemsNumber, Executor executor) {
+        Objects.requireNonNull(type, "Target type should not be null.");
+        Class<T> typeWrapper = PrimitiveWrapperUtil.wrap(type);
+        return generateListInParallel(new TypeMeta<>(typeWrapper), itemsNumber, executor);
+    }
+
+    /**
+     * Generates list with received number of models of type represented by received <code>TypeProvider</code> in
+     * parallel using common <code>ForkJoinPool</code>. Models order is deterministic so list is equal to result of
+     * sequential bulk generation if seed is set.
+     *
+     * @param typeProvider <code>TypeProvider</code> that provides generic type of target model.
+     * @param itemsNumber  <code>int</code> with number of models to generate.
+     * @param <T>          target type represented by <code>TypeProvider</code>.
+     * @return list of models with generated testing data.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     * @see TypeProvider
+     */
+    public <T> List<T> generateListInParallel(TypeProvider<T> typeProvider, int itemsNumber) {
+        return generateListInParallel(typeProvider, itemsNumber, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates list with received number of models of type represented by received <code>TypeProvider</code> in
+     * parallel using received executor. Models order is deterministic so list is equal to result of sequential bulk
+     * generation if seed is set.
+     *
+     * @param typeProvider <code>TypeProvider</code> that provides generic type of target model.
+     * @param itemsNumber  <code>int</code> with number of models to generate.
+     * @param executor     <code>Executor</code> that runs generation workers.
+     * @param <T>          target type represented by <code>TypeProvider</code>.
+     * @return list of models with generated testing data.
+     * @throws InstanceCreationException if target class is abstract, has neither public constructor without arguments
+     *                                    nor creation method which parameters unambiguously match its fields or
+     *                                    creation method failed.
+     * @see TypeProvider
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> generateListInParallel(TypeProvider<T> typeProvider, int itemsNumber, Executor executor) {
+        Objects.requireNonNull(typeProvider, "Target type provider should not be null.");
+        return generateListInParallel((TypeMeta<T>) typeProvider.getTypeMeta(), itemsNumber, executor);
+    }
+
+    /**
+     * Returns lazy stream of models of received type that are generated only when they are requested. Stream is
+     * effectively infinite so it should be limited by consumer. Stream supports parallel processing, if seed is set
+     * model at every position doesn't depend on order of generation and matches corresponding item of bulk
+     * generation.
+     *
+     * @param type target model class.
+     * @param <T>  the type represented by target class.
+     * @return <code>Stream</code> of models with generated testing data.
+     */
+    public <T> Stream<T> stream(Class<T> type) {
+        Objects.requireNonNull(type, "Target type should not be null.");
+        Class<T> typeWrapper = PrimitiveWrapperUtil.wrap(type);
+        return stream(new TypeMeta<>(typeWrapper));
+    }
+
+    /**
+     * Returns lazy stream of models of type represented by received <code>TypeProvider</code> that are generated only
+     * when they are requested. Stream is effectively infinite so it should be limited by consumer. Stream supports
+     * parallel processing, if seed is set model at every position doesn't depend on order of generation and matches
+     * corresponding item of bulk generation.
+     *
+     * @param typeProvider <code>TypeProvider</code> that provides generic type of target model.
+     * @param <T>          target type represented by <code>TypeProvider</code>.
+     * @return <code>Stream</code> of models with generated testing data.
+     * @see TypeProvider
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Stream<T> stream(TypeProvider<T> typeProvider) {
+        Objects.requireNonNull(typeProvider, "Target type provider should not be null.");
+        return stream((TypeMeta<T>) typeProvider.getTypeMeta());
+    }
+
+    private <T> T generate(TypeMeta<T> typeMeta) {
+        return GenerationSession.runInNewSession(testDataGenerationConfig,
+                () -> testDataGenerationContext.getTestDataGenerationEngine()
+                        .generate(testDataGenerationConfig, typeMeta));
+    }
+
+    private <T> T generate(TypeMeta<T> typeMeta, GenerationTrace trace) {
+        Objects.requireNonNull(trace, "Generation trace should not be null.");
+        return GenerationSession.runInNewSession(testDataGenerationConfig, trace,
+                () -> testDataGenerationContext.getTestDataGenerationEngine()
+                        .generate(testDataGenerationConfig, typeMeta));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T[] generateArray(TypeMeta<T> typeMeta, int itemsNumber) {
+        validateItemsNumber(itemsNumber);
+        T[] array = (T[]) Array.newInstance(typeMeta.getType(), itemsNumber);
+        int[] index = new int[1];
+        generateInto(typeMeta, itemsNumber, item -> array[index[0]++] = item);
+        return array;
+    }
+
+    private <T> void generateInto(TypeMeta<T> typeMeta, int itemsNumber, Consumer<? super T> consumer) {
+        Objects.requireNonNull(consumer, "Consumer should not be null.");
+        testDataGenerationContext.getTestDataGenerationEngine()
+                .generate(testDataGenerationConfig, typeMeta, itemsNumber, consumer);
+    }
+
+    private <T> List<T> generateList(TypeMeta<T> typeMeta, int itemsNumber) {
+        validateItemsNumber(itemsNumber);
+        List<T> list = new ArrayList<>(itemsNumber);
+        generateInto(typeMeta, itemsNumber, list::add);
+        return list;
+    }
+
+    private <T> List<T> generateListInParallel(TypeMeta<T> typeMeta, int itemsNumber, Executor executor) {
+        validateItemsNumber(itemsNumber);
+        Objects.requireNonNull(executor, "Executor should not be null.");
+        return new ParallelBulkGenerator(testDataGenerationContext.getTestDataGenerationEngine(),
+                testDataGenerationConfig, executor).generateList(typeMeta, itemsNumber);
+    }
+
+    private <T> Stream<T> stream(TypeMeta<T> typeMeta) {
+        TestDataGenerationEngine engine = testDataGenerationContext.getTestDataGenerationEngine();
+        ReferencePool referencePool = new ReferencePool();
+        // range of indices is splittable so stream can be processed in parallel
+        return LongStream.range(0, Long.MAX_VALUE).mapToObj(index -> GenerationSession
+                .runInNewSession(testDataGenerationConfig, index, referencePool,
+                        () -> engine.generate(testDataGenerationConfig, typeMeta)));
+    }
+
+    private void validateItemsNumber(int itemsNumber) {
+        if (itemsNumber < 0) {
+            throw new IllegalArgumentException("Items number shouldn't be less than zero.");
+        }
     }
 }
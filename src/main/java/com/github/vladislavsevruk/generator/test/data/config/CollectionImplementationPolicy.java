@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Contains policies that define implementations of collections created for fields declared with collection
+ * interfaces or abstract classes. All collections are created with capacity enough to hold generated items without
+ * resizing.
+ */
+public enum CollectionImplementationPolicy {
+
+    /**
+     * Uses <code>ArrayList</code> for lists, <code>LinkedHashSet</code> for sets and <code>HashMap</code> for maps.
+     */
+    DEFAULT(false, true, false),
+    /**
+     * Uses <code>ArrayList</code> for lists, <code>HashSet</code> for sets and <code>HashMap</code> for maps. Has the
+     * best throughput among modifiable collections.
+     */
+    HASHED(false, false, false),
+    /**
+     * Uses <code>ArrayList</code> for lists, <code>LinkedHashSet</code> for sets and <code>LinkedHashMap</code> for
+     * maps so iteration order matches generation order.
+     */
+    INSERTION_ORDERED(true, true, false),
+    /**
+     * Uses the same implementations as <code>HASHED</code> policy wrapped with unmodifiable views. Views are applied
+     * only to fields declared with interfaces as they don't extend abstract collection classes.
+     */
+    UNMODIFIABLE(false, false, true);
+
+    private static final float HASH_LOAD_FACTOR = 0.75f;
+
+    private final boolean linkedMaps;
+    private final boolean linkedSets;
+    private final boolean unmodifiable;
+
+    CollectionImplementationPolicy(boolean linkedMaps, boolean linkedSets, boolean unmodifiable) {
+        this.linkedMaps = linkedMaps;
+        this.linkedSets = linkedSets;
+        this.unmodifiable = unmodifiable;
+    }
+
+    /**
+     * Returns capacity of hash based collection that allows to hold received number of items without rehashing.
+     *
+     * @param itemsNumber <code>int</code> with expected number of items.
+     * @return <code>int</code> with initial capacity for hash based collection.
+     */
+    public static int getHashCapacity(int itemsNumber) {
+        return (int) (itemsNumber / HASH_LOAD_FACTOR) + 1;
+    }
+
+    /**
+     * Creates new list for received number of items.
+     *
+     * @param itemsNumber <code>int</code> with expected number of items.
+     * @param <T>         type of list items.
+     * @return new <code>List</code> instance.
+     */
+    public <T> List<T> createList(int itemsNumber) {
+        return new ArrayList<>(itemsNumber);
+    }
+
+    /**
+     * Creates new map for received number of entries.
+     *
+     * @param itemsNumber <code>int</code> with expected number of entries.
+     * @param <K>         type of map keys.
+     * @param <V>         type of map values.
+     * @return new <code>Map</code> instance.
+     */
+    public <K, V> Map<K, V> createMap(int itemsNumber) {
+        int capacity = getHashCapacity(itemsNumber);
+        return linkedMaps ? new LinkedHashMap<>(capacity) : new HashMap<>(capacity);
+    }
+
+    /**
+     * Creates new set for received number of items.
+     *
+     * @param itemsNumber <code>int</code> with expected number of items.
+     * @param <T>         type of set items.
+     * @return new <code>Set</code> instance.
+     */
+    public <T> Set<T> createSet(int itemsNumber) {
+        int capacity = getHashCapacity(itemsNumber);
+        return linkedSets ? new LinkedHashSet<>(capacity) : new HashSet<>(capacity);
+    }
+
+    /**
+     * Returns list that should be set to field of received type according to this policy.
+     *
+     * @param type <code>Class</code> of field to set list to.
+     * @param list generated <code>List</code>.
+     * @param <T>  type of list items.
+     * @return received list or its unmodifiable view.
+     */
+    public <T> List<T> toResult(Class<?> type, List<T> list) {
+        return isViewApplicable(type) ? Collections.unmodifiableList(list) : list;
+    }
+
+    /**
+     * Returns map that should be set to field of received type according to this policy.
+     *
+     * @param type <code>Class</code> of field to set map to.
+     * @param map  generated <code>Map</code>.
+     * @param <K>  type of map keys.
+     * @param <V>  type of map values.
+     * @return received map or its unmodifiable view.
+     */
+    public <K, V> Map<K, V> toResult(Class<?> type, Map<K, V> map) {
+        return isViewApplicable(type) ? Collections.unmodifiableMap(map) : map;
+    }
+
+    /**
+     * Returns set that should be set to field of received type according to this policy.
+     *
+     * @param type <code>Class</code> of field to set set to.
+     * @param set  generated <code>Set</code>.
+     * @param <T>  type of set items.
+     * @return received set or its unmodifiable view.
+     */
+    public <T> Set<T> toResult(Class<?> type, Set<T> set) {
+        return isViewApplicable(type) ? Collections.unmodifiableSet(set) : set;
+    }
+
+    private boolean isViewApplicable(Class<?> type) {
+        return unmodifiable && type.isInterface();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.config;
+
+/**
+ * Contains policies that define how POJO fields of type that is already being generated at current generation path
+ * are filled. Regardless of policy POJOs aren't generated deeper than max POJO depth from generation config.
+ */
+public enum RecursionPolicy {
+
+    /**
+     * Generates new instances of recursive types until max POJO depth is reached.
+     */
+    GENERATE_UNTIL_MAX_DEPTH,
+    /**
+     * Uses nearest ancestor instance of the same type that is being generated at current generation path so generated
+     * models contain cyclic references.
+     */
+    REUSE_ANCESTOR,
+    /**
+     * Uses <code>null</code> for values of type that is already being generated at current generation path.
+     */
+    SET_NULL
+}
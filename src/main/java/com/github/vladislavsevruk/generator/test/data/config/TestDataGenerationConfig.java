@@ -23,11 +23,14 @@
  */
 package com.github.vladislavsevruk.generator.test.data.config;
 
+import com.github.vladislavsevruk.generator.test.data.random.RandomSourceFactory;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 
+import java.util.Map;
+
 /**
  * Configuration parameters for test data generation.
  */
@@ -36,8 +39,21 @@ import lombok.experimental.Accessors;
 @Getter
 public class TestDataGenerationConfig {
 
+    CollectionImplementationPolicy collectionImplementationPolicy;
+    double collectionSizeDecayFactor;
+    boolean directByteBuffers;
     int maxItemsForCollections;
+    int maxPayloadSize;
+    int maxPojoDepth;
+    long memoryBudget;
+    MemoryBudgetPolicy memoryBudgetPolicy;
     int minItemsForCollections;
+    int minPayloadSize;
+    RandomSourceFactory randomSourceFactory;
+    RecursionPolicy recursionPolicy;
+    @Getter(AccessLevel.NONE)
+    Map<Class<?>, Integer> referencePoolSizes;
+    Long seed;
     String testDataPostfix;
     String testDataPrefix;
 
@@ -47,4 +63,14 @@ public class TestDataGenerationConfig {
     public static TestDataGenerationConfigBuilder builder() {
         return new TestDataGenerationConfigBuilder();
     }
+
+    /**
+     * Returns size of reference pool for nested models of received type or zero if they aren't shared.
+     *
+     * @param type <code>Class</code> of nested models.
+     * @return <code>int</code> with reference pool size.
+     */
+    public int referencePoolSize(Class<?> type) {
+        return referencePoolSizes.getOrDefault(type, 0);
+    }
 }
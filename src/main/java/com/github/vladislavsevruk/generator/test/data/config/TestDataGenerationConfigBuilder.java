@@ -24,9 +24,15 @@
 package com.github.vladislavsevruk.generator.test.data.config;
 
 import com.github.vladislavsevruk.generator.test.data.exception.GenerationConfigurationException;
+import com.github.vladislavsevruk.generator.test.data.random.RandomSourceFactory;
+import com.github.vladislavsevruk.generator.test.data.random.ThreadLocalRandomSource;
+import lombok.AccessLevel;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -38,8 +44,21 @@ import java.util.Objects;
 @Setter
 public final class TestDataGenerationConfigBuilder {
 
+    private CollectionImplementationPolicy collectionImplementationPolicy = CollectionImplementationPolicy.DEFAULT;
+    private double collectionSizeDecayFactor = 1;
+    private boolean directByteBuffers;
     private int maxItemsForCollections = 5;
+    private int maxPayloadSize = 64;
+    private int maxPojoDepth = 16;
+    private long memoryBudget = Long.MAX_VALUE;
+    private MemoryBudgetPolicy memoryBudgetPolicy = MemoryBudgetPolicy.FAIL;
     private int minItemsForCollections = 1;
+    private int minPayloadSize = 1;
+    private RandomSourceFactory randomSourceFactory = ThreadLocalRandomSource::new;
+    private RecursionPolicy recursionPolicy = RecursionPolicy.SET_NULL;
+    @Setter(AccessLevel.NONE)
+    private final Map<Class<?>, Integer> referencePoolSizes = new HashMap<>();
+    private Long seed;
     private String testDataPostfix = "";
     private String testDataPrefix = "";
 
@@ -51,11 +70,63 @@ public final class TestDataGenerationConfigBuilder {
      */
     public TestDataGenerationConfig build() {
         validateConfigurationParameters();
-        return new TestDataGenerationConfig(maxItemsForCollections, minItemsForCollections, testDataPostfix,
-                testDataPrefix);
+        return new TestDataGenerationConfig(collectionImplementationPolicy, collectionSizeDecayFactor,
+                directByteBuffers, maxItemsForCollections, maxPayloadSize, maxPojoDepth, memoryBudget,
+                memoryBudgetPolicy, minItemsForCollections, minPayloadSize, randomSourceFactory, recursionPolicy,
+                Collections.unmodifiableMap(new HashMap<>(referencePoolSizes)), seed, testDataPostfix, testDataPrefix);
+    }
+
+    /**
+     * Sets budget for estimated memory of generated objects. Budget is applied to every generated model separately:
+     * bulk generation methods like <code>generateList</code>, <code>generateListInParallel</code> and
+     * <code>stream</code> check each item against whole budget so items don't depend on each other and seeded
+     * generation stays reproducible. When budget is exceeded generation follows memory budget policy. Unlimited by
+     * default.
+     *
+     * @param memoryBudget <code>long</code> with max estimated size of generated model in bytes.
+     * @return this builder.
+     */
+    public TestDataGenerationConfigBuilder memoryBudget(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        return this;
+    }
+
+    /**
+     * Enables reference sharing for nested models of received type. Instead of generating new instance for every
+     * nested model of this type generation picks random one from pool of received size, so at most pool size
+     * instances of type are generated per generation call. Pool is shared by all items of bulk call and discarded
+     * after call completion. Pooled models are generated independently of items that refer to them, so seeded
+     * generation stays reproducible for parallel calls as well. Top level models are always generated.
+     *
+     * @param type     <code>Class</code> of nested models to share.
+     * @param poolSize <code>int</code> with max number of distinct instances of type.
+     * @return this builder.
+     */
+    public TestDataGenerationConfigBuilder referencePoolSize(Class<?> type, int poolSize) {
+        referencePoolSizes.put(type, poolSize);
+        return this;
+    }
+
+    /**
+     * Sets seed for reproducible generation. Generation of the same type with the same seed always produces equal
+     * models. Has priority over random source factory.
+     *
+     * @param seed <code>long</code> with seed value.
+     * @return this builder.
+     */
+    public TestDataGenerationConfigBuilder seed(long seed) {
+        this.seed = seed;
+        return this;
     }
 
     private void validateConfigurationParameters() {
+        if (Objects.isNull(collectionImplementationPolicy)) {
+            throw new GenerationConfigurationException("Collection implementation policy shouldn't be null.");
+        }
+        if (!(collectionSizeDecayFactor > 0 && collectionSizeDecayFactor <= 1)) {
+            throw new GenerationConfigurationException(
+                    "Collection size decay factor should be greater than zero and not greater than one.");
+        }
         if (minItemsForCollections < 0) {
             throw new GenerationConfigurationException("Min items number for collection shouldn't be less than zero.");
         }
@@ -63,6 +134,43 @@ public final class TestDataGenerationConfigBuilder {
             throw new GenerationConfigurationException(
                     "Min items number for collection shouldn't be greater than max items number.");
         }
+        // max values are inclusive so they should leave room for exclusive upper bound of random values
+        if (maxItemsForCollections == Integer.MAX_VALUE) {
+            throw new GenerationConfigurationException(
+                    "Max items number for collection should be less than Integer.MAX_VALUE.");
+        }
+        if (maxPojoDepth < 1) {
+            throw new GenerationConfigurationException("Max POJO depth should be greater than zero.");
+        }
+        if (memoryBudget <= 0) {
+            throw new GenerationConfigurationException("Memory budget should be greater than zero.");
+        }
+        if (Objects.isNull(memoryBudgetPolicy)) {
+            throw new GenerationConfigurationException("Memory budget policy shouldn't be null.");
+        }
+        if (minPayloadSize < 0) {
+            throw new GenerationConfigurationException("Min payload size shouldn't be less than zero.");
+        }
+        if (minPayloadSize > maxPayloadSize) {
+            throw new GenerationConfigurationException("Min payload size shouldn't be greater than max payload size.");
+        }
+        if (maxPayloadSize == Integer.MAX_VALUE) {
+            throw new GenerationConfigurationException("Max payload size should be less than Integer.MAX_VALUE.");
+        }
+        if (Objects.isNull(randomSourceFactory)) {
+            throw new GenerationConfigurationException("Random source factory shouldn't be null.");
+        }
+        if (Objects.isNull(recursionPolicy)) {
+            throw new GenerationConfigurationException("Recursion policy shouldn't be null.");
+        }
+        for (Map.Entry<Class<?>, Integer> poolSize : referencePoolSizes.entrySet()) {
+            if (Objects.isNull(poolSize.getKey())) {
+                throw new GenerationConfigurationException("Reference pool type shouldn't be null.");
+            }
+            if (poolSize.getValue() < 1) {
+                throw new GenerationConfigurationException("Reference pool size should be greater than zero.");
+            }
+        }
         if (Objects.isNull(testDataPostfix)) {
             throw new GenerationConfigurationException("Test data postfix shouldn't be null.");
         }
@@ -26,6 +26,8 @@ package com.github.vladislavsevruk.generator.test.data.context;
 import com.github.vladislavsevruk.generator.test.data.engine.TestDataGenerationEngine;
 import com.github.vladislavsevruk.generator.test.data.mapping.CustomFieldMappingStorage;
 import com.github.vladislavsevruk.generator.test.data.mapping.SetterMapper;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
+import com.github.vladislavsevruk.generator.test.data.metrics.NoOpGenerationMetrics;
 import com.github.vladislavsevruk.generator.test.data.picker.TestDataGeneratorPicker;
 import com.github.vladislavsevruk.generator.test.data.storage.PostGenerationHookStorage;
 import com.github.vladislavsevruk.generator.test.data.storage.TestDataGeneratorStorage;
@@ -55,6 +57,14 @@ public interface TestDataGenerationContext {
     @SuppressWarnings("java:S1452")
     FieldTypeResolver<TypeMeta<?>> getFieldTypeResolver();
 
+    /**
+     * Returns current instance of <code>GenerationMetrics</code> stored at context. Contexts that don't collect
+     * statistics return <code>NoOpGenerationMetrics</code>.
+     */
+    default GenerationMetrics getGenerationMetrics() {
+        return NoOpGenerationMetrics.INSTANCE;
+    }
+
     /**
      * Returns current instance of <code>PostGenerationHookStorage</code> stored at context.
      */
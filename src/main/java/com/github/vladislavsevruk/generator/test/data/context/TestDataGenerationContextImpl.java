@@ -29,6 +29,8 @@ import com.github.vladislavsevruk.generator.test.data.mapping.CustomFieldMapping
 import com.github.vladislavsevruk.generator.test.data.mapping.CustomFieldMappingStorageImpl;
 import com.github.vladislavsevruk.generator.test.data.mapping.SetterMapper;
 import com.github.vladislavsevruk.generator.test.data.mapping.SetterMapperImpl;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
+import com.github.vladislavsevruk.generator.test.data.metrics.NoOpGenerationMetrics;
 import com.github.vladislavsevruk.generator.test.data.picker.TestDataGeneratorPicker;
 import com.github.vladislavsevruk.generator.test.data.picker.TestDataGeneratorPickerImpl;
 import com.github.vladislavsevruk.generator.test.data.storage.PostGenerationHookStorage;
@@ -58,6 +60,7 @@ final class TestDataGenerationContextImpl implements TestDataGenerationContext {
     CustomFieldMappingStorage customFieldMappingStorage;
     ExecutableTypeResolver<TypeMeta<?>> executableTypeResolver;
     FieldTypeResolver<TypeMeta<?>> fieldTypeResolver;
+    GenerationMetrics generationMetrics;
     PostGenerationHookStorage postGenerationHookStorage;
     SetterMapper setterMapper;
     TestDataGenerationEngine testDataGenerationEngine;
@@ -71,6 +74,8 @@ final class TestDataGenerationContextImpl implements TestDataGenerationContext {
      *                                              implementation.
      * @param fieldTypeResolverFactoryMethod        factory method for <code>FieldTypeResolver</code> module
      *                                              implementation.
+     * @param generationMetricsFactoryMethod        factory method for <code>GenerationMetrics</code> module
+     *                                              implementation.
      * @param setterMapperFactoryMethod             factory method for <code>SetterMapper</code> module implementation.
      * @param testDataGenerationEngineFactoryMethod factory method for <code>TestDataGenerationEngine</code> module
      *                                              implementation.
@@ -84,6 +89,7 @@ final class TestDataGenerationContextImpl implements TestDataGenerationContext {
             TestDataGenerationModuleFactoryMethod<CustomFieldMappingStorage> customFieldMappingStorageFactoryMethod,
             TestDataGenerationModuleFactoryMethod<ExecutableTypeResolver<TypeMeta<?>>> executableTypeResolverFactoryMethod,
             TestDataGenerationModuleFactoryMethod<FieldTypeResolver<TypeMeta<?>>> fieldTypeResolverFactoryMethod,
+            TestDataGenerationModuleFactoryMethod<GenerationMetrics> generationMetricsFactoryMethod,
             TestDataGenerationModuleFactoryMethod<PostGenerationHookStorage> postGenerationHookStorageFactoryMethod,
             TestDataGenerationModuleFactoryMethod<SetterMapper> setterMapperFactoryMethod,
             TestDataGenerationModuleFactoryMethod<TestDataGenerationEngine> testDataGenerationEngineFactoryMethod,
@@ -103,6 +109,8 @@ final class TestDataGenerationContextImpl implements TestDataGenerationContext {
                 .format("Using '%s' as method type resolver.", executableTypeResolver.getClass().getName()));
         this.fieldTypeResolver = orDefault(fieldTypeResolverFactoryMethod, context -> new FieldTypeMetaResolver());
         log.debug(() -> String.format("Using '%s' as field type resolver.", fieldTypeResolver.getClass().getName()));
+        this.generationMetrics = orDefault(generationMetricsFactoryMethod, context -> NoOpGenerationMetrics.INSTANCE);
+        log.debug(() -> String.format("Using '%s' as generation metrics.", generationMetrics.getClass().getName()));
         this.postGenerationHookStorage = orDefault(postGenerationHookStorageFactoryMethod,
                 context -> new PostGenerationHookStorageImpl());
         log.debug(() -> String
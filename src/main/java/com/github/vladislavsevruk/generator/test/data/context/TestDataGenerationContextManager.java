@@ -23,18 +23,14 @@
  */
 package com.github.vladislavsevruk.generator.test.data.context;
 
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
 /**
- * Provides test data generation context and refreshes it.
+ * Provides test data generation context and refreshes it. Context and settings are published through volatile fields
+ * so reading them doesn't require locks.
  */
 public final class TestDataGenerationContextManager {
 
-    private static final ReadWriteLock DEFAULT_CONTEXT_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock SETTINGS_LOCK = new ReentrantReadWriteLock();
-    private static boolean autoRefreshContext = true;
-    private static TestDataGenerationContext defaultContext = newContext();
+    private static volatile boolean autoRefreshContext = true;
+    private static volatile TestDataGenerationContext defaultContext = newContext();
 
     private TestDataGenerationContextManager() {
     }
@@ -59,10 +55,7 @@ public final class TestDataGenerationContextManager {
      * @see TestDataGenerationModuleFactory
      */
     public static TestDataGenerationContext getContext() {
-        DEFAULT_CONTEXT_LOCK.readLock().lock();
-        TestDataGenerationContext contextToReturn = defaultContext;
-        DEFAULT_CONTEXT_LOCK.readLock().unlock();
-        return contextToReturn;
+        return defaultContext;
     }
 
     /**
@@ -71,10 +64,7 @@ public final class TestDataGenerationContextManager {
      * <code>false</code> otherwise.
      */
     static boolean isAutoRefreshContext() {
-        SETTINGS_LOCK.readLock().lock();
-        boolean valueToReturn = autoRefreshContext;
-        SETTINGS_LOCK.readLock().unlock();
-        return valueToReturn;
+        return autoRefreshContext;
     }
 
     /**
@@ -83,21 +73,18 @@ public final class TestDataGenerationContextManager {
      * @see TestDataGenerationModuleFactory
      */
     static void refreshContext() {
-        DEFAULT_CONTEXT_LOCK.writeLock().lock();
         defaultContext = newContext();
-        DEFAULT_CONTEXT_LOCK.writeLock().unlock();
     }
 
     private static void autoRefreshContext(boolean isTrue) {
-        SETTINGS_LOCK.writeLock().lock();
         autoRefreshContext = isTrue;
-        SETTINGS_LOCK.writeLock().unlock();
     }
 
     private static TestDataGenerationContext newContext() {
         return new TestDataGenerationContextImpl(TestDataGenerationModuleFactory.customFieldMappingStorage(),
                 TestDataGenerationModuleFactory.executableTypeResolver(),
                 TestDataGenerationModuleFactory.fieldTypeResolver(),
+                TestDataGenerationModuleFactory.generationMetrics(),
                 TestDataGenerationModuleFactory.postGenerationHookStorage(),
                 TestDataGenerationModuleFactory.setterMapper(),
                 TestDataGenerationModuleFactory.testDataGenerationEngine(),
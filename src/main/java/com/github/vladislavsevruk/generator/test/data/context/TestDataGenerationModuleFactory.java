@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.generator.test.data.context;
 import com.github.vladislavsevruk.generator.test.data.engine.TestDataGenerationEngine;
 import com.github.vladislavsevruk.generator.test.data.mapping.CustomFieldMappingStorage;
 import com.github.vladislavsevruk.generator.test.data.mapping.SetterMapper;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
 import com.github.vladislavsevruk.generator.test.data.picker.TestDataGeneratorPicker;
 import com.github.vladislavsevruk.generator.test.data.storage.PostGenerationHookStorage;
 import com.github.vladislavsevruk.generator.test.data.storage.TestDataGeneratorStorage;
@@ -34,31 +35,22 @@ import com.github.vladislavsevruk.resolver.resolver.field.FieldTypeResolver;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
 /**
  * Provides replaceable modules schemas required for test data generation mechanism.
  */
 @Log4j2
 public final class TestDataGenerationModuleFactory {
 
-    private static final ReadWriteLock EXECUTABLE_TYPE_RESOLVER_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock FIELD_MAPPING_STORAGE_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock FIELD_TYPE_RESOLVER_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock GENERATION_ENGINE_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock POST_GENERATION_HOOK_STORAGE_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock SETTER_MAPPER_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock TYPE_GENERATOR_PICKER_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock TYPE_GENERATOR_STORAGE_LOCK = new ReentrantReadWriteLock();
-    private static TestDataGenerationModuleFactoryMethod<CustomFieldMappingStorage> customFieldMappingStorage;
-    private static TestDataGenerationModuleFactoryMethod<ExecutableTypeResolver<TypeMeta<?>>> executableTypeResolver;
-    private static TestDataGenerationModuleFactoryMethod<FieldTypeResolver<TypeMeta<?>>> fieldTypeResolver;
-    private static TestDataGenerationModuleFactoryMethod<PostGenerationHookStorage> postGenerationHookStorage;
-    private static TestDataGenerationModuleFactoryMethod<SetterMapper> setterMapper;
-    private static TestDataGenerationModuleFactoryMethod<TestDataGenerationEngine> testDataGenerationEngine;
-    private static TestDataGenerationModuleFactoryMethod<TestDataGeneratorPicker> testDataGeneratorPicker;
-    private static TestDataGenerationModuleFactoryMethod<TestDataGeneratorStorage> testDataGeneratorStorage;
+    private static volatile TestDataGenerationModuleFactoryMethod<CustomFieldMappingStorage> customFieldMappingStorage;
+    private static volatile TestDataGenerationModuleFactoryMethod<ExecutableTypeResolver<TypeMeta<?>>>
+            executableTypeResolver;
+    private static volatile TestDataGenerationModuleFactoryMethod<FieldTypeResolver<TypeMeta<?>>> fieldTypeResolver;
+    private static volatile TestDataGenerationModuleFactoryMethod<GenerationMetrics> generationMetrics;
+    private static volatile TestDataGenerationModuleFactoryMethod<PostGenerationHookStorage> postGenerationHookStorage;
+    private static volatile TestDataGenerationModuleFactoryMethod<SetterMapper> setterMapper;
+    private static volatile TestDataGenerationModuleFactoryMethod<TestDataGenerationEngine> testDataGenerationEngine;
+    private static volatile TestDataGenerationModuleFactoryMethod<TestDataGeneratorPicker> testDataGeneratorPicker;
+    private static volatile TestDataGenerationModuleFactoryMethod<TestDataGeneratorStorage> testDataGeneratorStorage;
 
     private TestDataGenerationModuleFactory() {
     }
@@ -68,11 +60,7 @@ public final class TestDataGenerationModuleFactory {
      * <code>CustomFieldMappingStorage</code>.
      */
     public static TestDataGenerationModuleFactoryMethod<CustomFieldMappingStorage> customFieldMappingStorage() {
-        FIELD_MAPPING_STORAGE_LOCK.readLock().lock();
-        TestDataGenerationModuleFactoryMethod<CustomFieldMappingStorage> storageToReturn
-                = TestDataGenerationModuleFactory.customFieldMappingStorage;
-        FIELD_MAPPING_STORAGE_LOCK.readLock().unlock();
-        return storageToReturn;
+        return TestDataGenerationModuleFactory.customFieldMappingStorage;
     }
 
     /**
@@ -81,11 +69,7 @@ public final class TestDataGenerationModuleFactory {
      */
     @SuppressWarnings("java:S1452")
     public static TestDataGenerationModuleFactoryMethod<ExecutableTypeResolver<TypeMeta<?>>> executableTypeResolver() {
-        EXECUTABLE_TYPE_RESOLVER_LOCK.readLock().lock();
-        TestDataGenerationModuleFactoryMethod<ExecutableTypeResolver<TypeMeta<?>>> executableTypeResolverToReturn
-                = TestDataGenerationModuleFactory.executableTypeResolver;
-        EXECUTABLE_TYPE_RESOLVER_LOCK.readLock().unlock();
-        return executableTypeResolverToReturn;
+        return TestDataGenerationModuleFactory.executableTypeResolver;
     }
 
     /**
@@ -94,11 +78,15 @@ public final class TestDataGenerationModuleFactory {
      */
     @SuppressWarnings("java:S1452")
     public static TestDataGenerationModuleFactoryMethod<FieldTypeResolver<TypeMeta<?>>> fieldTypeResolver() {
-        FIELD_TYPE_RESOLVER_LOCK.readLock().lock();
-        TestDataGenerationModuleFactoryMethod<FieldTypeResolver<TypeMeta<?>>> fieldTypeResolverToReturn
-                = TestDataGenerationModuleFactory.fieldTypeResolver;
-        FIELD_TYPE_RESOLVER_LOCK.readLock().unlock();
-        return fieldTypeResolverToReturn;
+        return TestDataGenerationModuleFactory.fieldTypeResolver;
+    }
+
+    /**
+     * Returns current instance of <code>TestDataGenerationModuleFactoryMethod</code> for
+     * <code>GenerationMetrics</code>.
+     */
+    public static TestDataGenerationModuleFactoryMethod<GenerationMetrics> generationMetrics() {
+        return TestDataGenerationModuleFactory.generationMetrics;
     }
 
     /**
@@ -106,11 +94,7 @@ public final class TestDataGenerationModuleFactory {
      * <code>PostGenerationHookStorage</code>.
      */
     public static TestDataGenerationModuleFactoryMethod<PostGenerationHookStorage> postGenerationHookStorage() {
-        POST_GENERATION_HOOK_STORAGE_LOCK.readLock().lock();
-        TestDataGenerationModuleFactoryMethod<PostGenerationHookStorage> postGenerationHookStorageToReturn
-                = TestDataGenerationModuleFactory.postGenerationHookStorage;
-        POST_GENERATION_HOOK_STORAGE_LOCK.readLock().unlock();
-        return postGenerationHookStorageToReturn;
+        return TestDataGenerationModuleFactory.postGenerationHookStorage;
     }
 
     /**
@@ -122,11 +106,9 @@ public final class TestDataGenerationModuleFactory {
      */
     public static void replaceCustomFieldMappingStorage(
             TestDataGenerationModuleFactoryMethod<CustomFieldMappingStorage> storage) {
-        FIELD_MAPPING_STORAGE_LOCK.writeLock().lock();
         log.info(() -> String.format("Replacing CustomFieldMappingStorage by '%s'.",
                 storage == null ? null : storage.getClass().getName()));
         TestDataGenerationModuleFactory.customFieldMappingStorage = storage;
-        FIELD_MAPPING_STORAGE_LOCK.writeLock().unlock();
         if (TestDataGenerationContextManager.isAutoRefreshContext()) {
             TestDataGenerationContextManager.refreshContext();
         }
@@ -141,11 +123,9 @@ public final class TestDataGenerationModuleFactory {
      */
     public static void replaceExecutableTypeResolver(
             TestDataGenerationModuleFactoryMethod<ExecutableTypeResolver<TypeMeta<?>>> resolver) {
-        EXECUTABLE_TYPE_RESOLVER_LOCK.writeLock().lock();
         log.info(() -> String.format("Replacing ExecutableTypeResolver by '%s'.",
                 resolver == null ? null : resolver.getClass().getName()));
         TestDataGenerationModuleFactory.executableTypeResolver = resolver;
-        EXECUTABLE_TYPE_RESOLVER_LOCK.writeLock().unlock();
         if (TestDataGenerationContextManager.isAutoRefreshContext()) {
             TestDataGenerationContextManager.refreshContext();
         }
@@ -160,11 +140,25 @@ public final class TestDataGenerationModuleFactory {
      */
     public static void replaceFieldTypeResolver(
             TestDataGenerationModuleFactoryMethod<FieldTypeResolver<TypeMeta<?>>> resolver) {
-        FIELD_TYPE_RESOLVER_LOCK.writeLock().lock();
         log.info(() -> String.format("Replacing FieldTypeResolver by '%s'.",
                 resolver == null ? null : resolver.getClass().getName()));
         TestDataGenerationModuleFactory.fieldTypeResolver = resolver;
-        FIELD_TYPE_RESOLVER_LOCK.writeLock().unlock();
+        if (TestDataGenerationContextManager.isAutoRefreshContext()) {
+            TestDataGenerationContextManager.refreshContext();
+        }
+    }
+
+    /**
+     * Replaces instance of <code>TestDataGenerationModuleFactoryMethod</code> for <code>GenerationMetrics</code>. All
+     * further generations will use new instance.
+     *
+     * @param metrics new instance of <code>TestDataGenerationModuleFactoryMethod</code> for
+     *                <code>GenerationMetrics</code>.
+     */
+    public static void replaceGenerationMetrics(TestDataGenerationModuleFactoryMethod<GenerationMetrics> metrics) {
+        log.info(() -> String.format("Replacing GenerationMetrics by '%s'.",
+                metrics == null ? null : metrics.getClass().getName()));
+        TestDataGenerationModuleFactory.generationMetrics = metrics;
         if (TestDataGenerationContextManager.isAutoRefreshContext()) {
             TestDataGenerationContextManager.refreshContext();
         }
@@ -179,11 +173,9 @@ public final class TestDataGenerationModuleFactory {
      */
     public static void replacePostGenerationHookStorage(
             TestDataGenerationModuleFactoryMethod<PostGenerationHookStorage> storage) {
-        POST_GENERATION_HOOK_STORAGE_LOCK.writeLock().lock();
         log.info(() -> String.format("Replacing PostGenerationHookStorage by '%s'.",
                 storage == null ? null : storage.getClass().getName()));
         TestDataGenerationModuleFactory.postGenerationHookStorage = storage;
-        POST_GENERATION_HOOK_STORAGE_LOCK.writeLock().unlock();
         if (TestDataGenerationContextManager.isAutoRefreshContext()) {
             TestDataGenerationContextManager.refreshContext();
         }
@@ -196,11 +188,9 @@ public final class TestDataGenerationModuleFactory {
      * @param mapper new instance of <code>TestDataGenerationModuleFactoryMethod</code> for <code>SetterMapper</code>.
      */
     public static void replaceSetterMapper(TestDataGenerationModuleFactoryMethod<SetterMapper> mapper) {
-        SETTER_MAPPER_LOCK.writeLock().lock();
         log.info(() -> String
                 .format("Replacing SetterMapper by '%s'.", mapper == null ? null : mapper.getClass().getName()));
         TestDataGenerationModuleFactory.setterMapper = mapper;
-        SETTER_MAPPER_LOCK.writeLock().unlock();
         if (TestDataGenerationContextManager.isAutoRefreshContext()) {
             TestDataGenerationContextManager.refreshContext();
         }
@@ -215,11 +205,9 @@ public final class TestDataGenerationModuleFactory {
      */
     public static void replaceTestDataGenerationEngine(
             TestDataGenerationModuleFactoryMethod<TestDataGenerationEngine> engine) {
-        GENERATION_ENGINE_LOCK.writeLock().lock();
         log.info(() -> String.format("Replacing TestDataGenerationEngine by '%s'.",
                 engine == null ? null : engine.getClass().getName()));
         TestDataGenerationModuleFactory.testDataGenerationEngine = engine;
-        GENERATION_ENGINE_LOCK.writeLock().unlock();
         if (TestDataGenerationContextManager.isAutoRefreshContext()) {
             TestDataGenerationContextManager.refreshContext();
         }
@@ -234,11 +222,9 @@ public final class TestDataGenerationModuleFactory {
      */
     public static void replaceTestDataGeneratorPicker(
             TestDataGenerationModuleFactoryMethod<TestDataGeneratorPicker> picker) {
-        TYPE_GENERATOR_PICKER_LOCK.writeLock().lock();
         log.info(() -> String.format("Replacing TestDataGeneratorPicker by '%s'.",
                 picker == null ? null : picker.getClass().getName()));
         TestDataGenerationModuleFactory.testDataGeneratorPicker = picker;
-        TYPE_GENERATOR_PICKER_LOCK.writeLock().unlock();
         if (TestDataGenerationContextManager.isAutoRefreshContext()) {
             TestDataGenerationContextManager.refreshContext();
         }
@@ -253,11 +239,9 @@ public final class TestDataGenerationModuleFactory {
      */
     public static void replaceTestDataGeneratorStorage(
             TestDataGenerationModuleFactoryMethod<TestDataGeneratorStorage> storage) {
-        TYPE_GENERATOR_STORAGE_LOCK.writeLock().lock();
         log.info(() -> String.format("Replacing TestDataGeneratorStorage by '%s'.",
                 storage == null ? null : storage.getClass().getName()));
         TestDataGenerationModuleFactory.testDataGeneratorStorage = storage;
-        TYPE_GENERATOR_STORAGE_LOCK.writeLock().unlock();
         if (TestDataGenerationContextManager.isAutoRefreshContext()) {
             TestDataGenerationContextManager.refreshContext();
         }
@@ -267,11 +251,7 @@ public final class TestDataGenerationModuleFactory {
      * Returns current instance of <code>TestDataGenerationModuleFactoryMethod</code> for <code>SetterMapper</code>.
      */
     public static TestDataGenerationModuleFactoryMethod<SetterMapper> setterMapper() {
-        SETTER_MAPPER_LOCK.readLock().lock();
-        TestDataGenerationModuleFactoryMethod<SetterMapper> setterMapperToReturn
-                = TestDataGenerationModuleFactory.setterMapper;
-        SETTER_MAPPER_LOCK.readLock().unlock();
-        return setterMapperToReturn;
+        return TestDataGenerationModuleFactory.setterMapper;
     }
 
     /**
@@ -279,11 +259,7 @@ public final class TestDataGenerationModuleFactory {
      * <code>TestDataGenerationEngine</code>.
      */
     public static TestDataGenerationModuleFactoryMethod<TestDataGenerationEngine> testDataGenerationEngine() {
-        GENERATION_ENGINE_LOCK.readLock().lock();
-        TestDataGenerationModuleFactoryMethod<TestDataGenerationEngine> engineToReturn
-                = TestDataGenerationModuleFactory.testDataGenerationEngine;
-        GENERATION_ENGINE_LOCK.readLock().unlock();
-        return engineToReturn;
+        return TestDataGenerationModuleFactory.testDataGenerationEngine;
     }
 
     /**
@@ -291,11 +267,7 @@ public final class TestDataGenerationModuleFactory {
      * <code>TestDataGeneratorPicker</code>.
      */
     public static TestDataGenerationModuleFactoryMethod<TestDataGeneratorPicker> testDataGeneratorPicker() {
-        TYPE_GENERATOR_PICKER_LOCK.readLock().lock();
-        TestDataGenerationModuleFactoryMethod<TestDataGeneratorPicker> pickerToReturn
-                = TestDataGenerationModuleFactory.testDataGeneratorPicker;
-        TYPE_GENERATOR_PICKER_LOCK.readLock().unlock();
-        return pickerToReturn;
+        return TestDataGenerationModuleFactory.testDataGeneratorPicker;
     }
 
     /**
@@ -303,10 +275,6 @@ public final class TestDataGenerationModuleFactory {
      * <code>TestDataGeneratorStorage</code>.
      */
     public static TestDataGenerationModuleFactoryMethod<TestDataGeneratorStorage> testDataGeneratorStorage() {
-        TYPE_GENERATOR_STORAGE_LOCK.readLock().lock();
-        TestDataGenerationModuleFactoryMethod<TestDataGeneratorStorage> storageToReturn
-                = TestDataGenerationModuleFactory.testDataGeneratorStorage;
-        TYPE_GENERATOR_STORAGE_LOCK.readLock().unlock();
-        return storageToReturn;
+        return TestDataGenerationModuleFactory.testDataGeneratorStorage;
     }
 }
\ No newline at end of file
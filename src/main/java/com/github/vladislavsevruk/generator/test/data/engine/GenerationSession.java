@@ -0,0 +1,452 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.engine;
+
+import com.github.vladislavsevruk.generator.test.data.config.MemoryBudgetPolicy;
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.exception.GenerationConfigurationException;
+import com.github.vladislavsevruk.generator.test.data.exception.MemoryBudgetExceededException;
+import com.github.vladislavsevruk.generator.test.data.generator.DataGenerator;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
+import com.github.vladislavsevruk.generator.test.data.random.RandomSource;
+import com.github.vladislavsevruk.generator.test.data.random.SplittableRandomSource;
+import com.github.vladislavsevruk.generator.test.data.util.MemoryEstimationUtil;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Holds state of single test data generation call that is shared by all generators involved into it. Session is bound
+ * to thread that performs generation.
+ */
+@Getter
+public final class GenerationSession {
+
+    private static final ThreadLocal<GenerationSession> CURRENT_SESSION = new ThreadLocal<>();
+
+    private int collectionDepth;
+    private long decoratedStringsNumber;
+    private int depth;
+    private long estimatedMemory;
+    private long generatedObjectsNumber;
+    @Getter(AccessLevel.NONE)
+    private final long memoryBudget;
+    private boolean memoryBudgetExceeded;
+    @Getter(AccessLevel.NONE)
+    private final MemoryBudgetPolicy memoryBudgetPolicy;
+    @Getter(AccessLevel.NONE)
+    private final List<Object> pojoPath = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final List<Class<?>> pojoTypePath = new ArrayList<>();
+    private final boolean pooledModelGeneration;
+    @Getter(AccessLevel.NONE)
+    private ReferencePool referencePool;
+    @Getter(AccessLevel.NONE)
+    private Object reusedPooledModel;
+    private final RandomSource randomSource;
+    private final GenerationTrace trace;
+    private String valueName;
+
+    private GenerationSession(TestDataGenerationConfig testDataGenerationConfig, RandomSource randomSource,
+            GenerationTrace trace, ReferencePool referencePool, boolean pooledModelGeneration) {
+        this.memoryBudget = testDataGenerationConfig.memoryBudget();
+        this.memoryBudgetPolicy = testDataGenerationConfig.memoryBudgetPolicy();
+        this.pooledModelGeneration = pooledModelGeneration;
+        this.randomSource = randomSource;
+        this.referencePool = referencePool;
+        this.trace = trace;
+    }
+
+    /**
+     * Returns session of generation call that is performed by current thread or <code>null</code> if there is no
+     * active session.
+     */
+    public static GenerationSession current() {
+        return CURRENT_SESSION.get();
+    }
+
+    /**
+     * Returns <code>true</code> if generation of objects should be performed via <code>runMeasured</code> method
+     * because received metrics are enabled, received generation session is traced or has memory budget,
+     * <code>false</code> otherwise.
+     *
+     * @param metrics <code>GenerationMetrics</code> from generation context.
+     * @param session current <code>GenerationSession</code> or <code>null</code> if there is no active session.
+     * @return <code>true</code> if generation should be measured, <code>false</code> otherwise.
+     */
+    public static boolean isMeasurementRequired(GenerationMetrics metrics, GenerationSession session) {
+        if (metrics.isEnabled()) {
+            return true;
+        }
+        return session != null && (session.trace != null || session.memoryBudget != Long.MAX_VALUE);
+    }
+
+    /**
+     * Performs received generation action at new session for current thread. Previous session of current thread is
+     * restored after action completion.
+     *
+     * @param testDataGenerationConfig <code>TestDataGenerationConfig</code> with generation parameters.
+     * @param generationAction         generation action to perform.
+     * @param <T>                      type of generation result.
+     * @return result of generation action.
+     */
+    public static <T> T runInNewSession(TestDataGenerationConfig testDataGenerationConfig,
+            Supplier<T> generationAction) {
+        return runInSession(new GenerationSession(testDataGenerationConfig,
+                createRandomSource(testDataGenerationConfig, 0L), null, null, false), generationAction);
+    }
+
+    /**
+     * Performs received generation action at new session for current thread and records all generated objects to
+     * received trace. Previous session of current thread is restored after action completion.
+     *
+     * @param testDataGenerationConfig <code>TestDataGenerationConfig</code> with generation parameters.
+     * @param trace                    <code>GenerationTrace</code> to record generated objects to.
+     * @param generationAction         generation action to perform.
+     * @param <T>                      type of generation result.
+     * @return result of generation action.
+     */
+    public static <T> T runInNewSession(TestDataGenerationConfig testDataGenerationConfig, GenerationTrace trace,
+            Supplier<T> generationAction) {
+        return runInSession(new GenerationSession(testDataGenerationConfig,
+                createRandomSource(testDataGenerationConfig, 0L), trace, null, false), generationAction);
+    }
+
+    /**
+     * Performs received generation action for item with received index of bulk generation at new session for current
+     * thread. If seed is set random values of session depend only on seed and item index so items are reproducible
+     * regardless of order they are generated in. Item with zero index is equal to result of single generation call.
+     * Nested models are shared with other items of bulk generation via received reference pool that should be created
+     * once per bulk generation call. Previous session of current thread is restored after action completion.
+     *
+     * @param testDataGenerationConfig <code>TestDataGenerationConfig</code> with generation parameters.
+     * @param itemIndex                <code>long</code> with index of generated item.
+     * @param referencePool            <code>ReferencePool</code> shared by all items of bulk generation call.
+     * @param generationAction         generation action to perform.
+     * @param <T>                      type of generation result.
+     * @return result of generation action.
+     */
+    public static <T> T runInNewSession(TestDataGenerationConfig testDataGenerationConfig, long itemIndex,
+            ReferencePool referencePool, Supplier<T> generationAction) {
+        return runInSession(new GenerationSession(testDataGenerationConfig,
+                createRandomSource(testDataGenerationConfig, itemIndex), null, referencePool, false), generationAction);
+    }
+
+    /**
+     * Performs received generation action of single object at received session, records its duration, estimated size
+     * and number of objects generated during outermost generation to received metrics and adds it to trace of session
+     * if it's present. Estimated size is also added to estimated memory of session and checked against memory budget
+     * unless result is model taken from reference pool.
+     *
+     * @param metrics          <code>GenerationMetrics</code> to record statistics to.
+     * @param session          current <code>GenerationSession</code> or <code>null</code> if there is no active
+     *                         session.
+     * @param typeMeta         <code>TypeMeta</code> of generated object.
+     * @param generator        <code>DataGenerator</code> that generates object or <code>null</code> if there is no
+     *                         matching generator.
+     * @param generationAction generation action to perform.
+     * @param <T>              type of generation result.
+     * @return result of generation action.
+     */
+    public static <T> T runMeasured(GenerationMetrics metrics, GenerationSession session, TypeMeta<?> typeMeta,
+            DataGenerator generator, Supplier<T> generationAction) {
+        // generators may be called directly outside of session so only duration is recorded in such case
+        GenerationTraceEntry traceEntry = null;
+        if (session != null) {
+            if (session.trace != null) {
+                traceEntry = session.trace.addEntry(session.depth, typeMeta, generator);
+            }
+            ++session.depth;
+            ++session.generatedObjectsNumber;
+        }
+        long startTime = System.nanoTime();
+        T result;
+        try {
+            result = generationAction.get();
+        } finally {
+            long duration = System.nanoTime() - startTime;
+            metrics.recordTypeGeneration(typeMeta, duration);
+            if (traceEntry != null) {
+                traceEntry.setDurationNanos(duration);
+            }
+            if (session != null && --session.depth == 0) {
+                metrics.recordGenerationCall(session.generatedObjectsNumber);
+            }
+        }
+        if (session != null && session.isReusedPooledModel(result)) {
+            // pooled model is estimated at its own session and charged to item that filled pool slot
+            return result;
+        }
+        long estimatedSize = MemoryEstimationUtil.estimateShallowSize(result);
+        metrics.recordEstimatedSize(typeMeta, estimatedSize);
+        if (session != null) {
+            session.addEstimatedMemory(typeMeta, estimatedSize);
+        }
+        return result;
+    }
+
+    /**
+     * Adds name of currently generated value to received string that wasn't decorated by its generator. Test data
+     * prefix is kept at the beginning of string. If there is no name of generated value string is returned as is.
+     *
+     * @param testDataGenerationConfig <code>TestDataGenerationConfig</code> with generation parameters.
+     * @param value                    <code>String</code> to add name of generated value to.
+     * @return <code>String</code> with name of generated value.
+     */
+    public String addValueName(TestDataGenerationConfig testDataGenerationConfig, String value) {
+        if (valueName == null) {
+            return value;
+        }
+        String prefix = testDataGenerationConfig.testDataPrefix();
+        String prefixlessValue = value.startsWith(prefix) ? value.substring(prefix.length()) : value;
+        return prefix + valueName + "-" + prefixlessValue;
+    }
+
+    /**
+     * Increments number of collections, maps or arrays which elements are being generated at current generation path.
+     * Should be called before generation of elements.
+     */
+    public void enterCollection() {
+        ++collectionDepth;
+    }
+
+    /**
+     * Adds POJO of received type that is created after generation of its fields to current generation path. Should
+     * be called before generation of POJO fields.
+     *
+     * @param type <code>Class</code> of POJO which fields are generated.
+     */
+    public void enterPendingPojo(Class<?> type) {
+        pojoPath.add(null);
+        pojoTypePath.add(type);
+    }
+
+    /**
+     * Adds received POJO to the end of current generation path. Should be called before generation of POJO fields.
+     *
+     * @param pojo POJO which fields are going to be generated.
+     */
+    public void enterPojo(Object pojo) {
+        pojoPath.add(pojo);
+        pojoTypePath.add(pojo.getClass());
+    }
+
+    /**
+     * Decrements number of collections, maps or arrays which elements are being generated at current generation path.
+     * Should be called after generation of elements.
+     */
+    public void exitCollection() {
+        --collectionDepth;
+    }
+
+    /**
+     * Removes last POJO from current generation path. Should be called after generation of POJO fields.
+     */
+    public void exitPojo() {
+        pojoPath.remove(pojoPath.size() - 1);
+        pojoTypePath.remove(pojoTypePath.size() - 1);
+    }
+
+    /**
+     * Returns nearest POJO of received type at current generation path.
+     *
+     * @param type <code>Class</code> of POJO to find.
+     * @return nearest POJO of received type or <code>null</code> if there is no such POJO at generation path or it
+     * isn't created yet.
+     */
+    public Object findPojoAncestor(Class<?> type) {
+        int index = pojoTypePath.lastIndexOf(type);
+        return index == -1 ? null : pojoPath.get(index);
+    }
+
+    /**
+     * Returns model of received type from slot with received index of reference pool of current generation call and
+     * marks it as reused. If slot is empty model is generated by received action at separate session which random
+     * values depend only on seed, type and slot index, so pooled models don't depend on order items of bulk call are
+     * generated in. Models are generated at such session as top level ones and don't use reference pool for their
+     * nested models. Estimated memory of generated model with its nested models is charged to memory budget of current
+     * session and generated objects are added to its trace.
+     *
+     * @param testDataGenerationConfig <code>TestDataGenerationConfig</code> with generation parameters.
+     * @param typeMeta                 <code>TypeMeta</code> of pooled model.
+     * @param poolSize                 <code>int</code> with size of pool for received type.
+     * @param slotIndex                <code>int</code> with index of pool slot.
+     * @param generationAction         action that generates model for empty slot.
+     * @return pooled model.
+     */
+    public Object getPooledModel(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<?> typeMeta,
+            int poolSize, int slotIndex, Supplier<Object> generationAction) {
+        if (referencePool == null) {
+            // single generation call doesn't receive pool from outside so it's created on demand
+            referencePool = new ReferencePool();
+        }
+        Object pooledModel = referencePool.get(typeMeta, slotIndex);
+        if (pooledModel == null) {
+            RandomSource pooledModelRandomSource = createPooledModelRandomSource(testDataGenerationConfig, typeMeta,
+                    slotIndex);
+            GenerationSession pooledModelSession = new GenerationSession(testDataGenerationConfig,
+                    pooledModelRandomSource, trace, referencePool, true);
+            // pooled model is generated as part of current generation call so it's reported in its metrics and trace
+            pooledModelSession.depth = depth;
+            Object model = runInSession(pooledModelSession, generationAction);
+            generatedObjectsNumber += pooledModelSession.generatedObjectsNumber;
+            pooledModel = referencePool.putIfAbsent(typeMeta, poolSize, slotIndex, model);
+            if (pooledModel == model) {
+                // if concurrent item has filled slot first its model is used and charged to that item
+                addEstimatedMemory(typeMeta, pooledModelSession.estimatedMemory);
+            }
+        }
+        reusedPooledModel = pooledModel;
+        return pooledModel;
+    }
+
+    /**
+     * Returns number of POJOs at current generation path.
+     */
+    public int getPojoDepth() {
+        return pojoPath.size();
+    }
+
+    /**
+     * Returns <code>true</code> if POJO of received type is at current generation path, <code>false</code>
+     * otherwise.
+     *
+     * @param type <code>Class</code> of POJO to find.
+     * @return <code>true</code> if POJO of received type is at current generation path, <code>false</code> otherwise.
+     */
+    public boolean hasPojoAncestor(Class<?> type) {
+        return pojoTypePath.contains(type);
+    }
+
+    /**
+     * Returns <code>true</code> if fields of received POJO are being generated at current generation path,
+     * <code>false</code> otherwise.
+     *
+     * @param pojo POJO to check.
+     * @return <code>true</code> if received POJO is at current generation path, <code>false</code> otherwise.
+     */
+    public boolean isPojoInProgress(Object pojo) {
+        for (int i = pojoPath.size() - 1; i >= 0; --i) {
+            if (pojoPath.get(i) == pojo) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns <code>true</code> if received model was taken from reference pool by latest generation,
+     * <code>false</code> otherwise.
+     *
+     * @param model model to check.
+     * @return <code>true</code> if received model is reused pooled model, <code>false</code> otherwise.
+     */
+    public boolean isReusedPooledModel(Object model) {
+        return reusedPooledModel != null && reusedPooledModel == model;
+    }
+
+    /**
+     * Marks that generated string was decorated with name of currently generated value so generators of enclosing
+     * values don't decorate it once again.
+     */
+    public void markStringDecorated() {
+        ++decoratedStringsNumber;
+    }
+
+    /**
+     * Sets name of currently generated value that is added to generated strings and returns previously set one.
+     * Generators of nested values may replace it with derived name but should restore previous one afterwards.
+     *
+     * @param valueName <code>String</code> with name of generated value or <code>null</code> if generated strings
+     *                  shouldn't be decorated.
+     * @return <code>String</code> with previous name of generated value or <code>null</code> if there was no one.
+     */
+    public String replaceValueName(String valueName) {
+        String previousValueName = this.valueName;
+        this.valueName = valueName;
+        return previousValueName;
+    }
+
+    private void addEstimatedMemory(TypeMeta<?> typeMeta, long estimatedSize) {
+        estimatedMemory += estimatedSize;
+        if (estimatedMemory > memoryBudget && !memoryBudgetExceeded) {
+            memoryBudgetExceeded = true;
+            if (memoryBudgetPolicy == MemoryBudgetPolicy.FAIL) {
+                String message = String.format(
+                        "Estimated memory of generated objects exceeded budget of %d bytes at generation of '%s'.",
+                        memoryBudget, typeMeta.getType().getName());
+                throw new MemoryBudgetExceededException(message);
+            }
+        }
+    }
+
+    private static RandomSource createRandomSource(TestDataGenerationConfig testDataGenerationConfig, long itemIndex) {
+        Long seed = testDataGenerationConfig.seed();
+        if (seed != null) {
+            return new SplittableRandomSource(itemIndex == 0L ? seed : getItemSeed(seed, itemIndex));
+        }
+        RandomSource randomSource = testDataGenerationConfig.randomSourceFactory().newRandomSource();
+        if (randomSource == null) {
+            throw new GenerationConfigurationException("Random source factory returned null.");
+        }
+        return randomSource;
+    }
+
+    private static RandomSource createPooledModelRandomSource(TestDataGenerationConfig testDataGenerationConfig,
+            TypeMeta<?> typeMeta, int slotIndex) {
+        Long seed = testDataGenerationConfig.seed();
+        if (seed == null) {
+            return createRandomSource(testDataGenerationConfig, 0L);
+        }
+        // type name is used instead of identity based hash code so pooled models are reproducible between runs
+        long typeSeed = getItemSeed(~seed, typeMeta.getType().getName().hashCode());
+        return new SplittableRandomSource(getItemSeed(typeSeed, slotIndex));
+    }
+
+    private static long getItemSeed(long seed, long itemIndex) {
+        // mixes seed with item index using variant of MurmurHash3 finalizer so item sequences don't overlap
+        long value = seed + itemIndex * 0x9e3779b97f4a7c15L;
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    private static <T> T runInSession(GenerationSession session, Supplier<T> generationAction) {
+        GenerationSession previousSession = CURRENT_SESSION.get();
+        CURRENT_SESSION.set(session);
+        try {
+            return generationAction.get();
+        } finally {
+            if (previousSession == null) {
+                CURRENT_SESSION.remove();
+            } else {
+                CURRENT_SESSION.set(previousSession);
+            }
+        }
+    }
+}
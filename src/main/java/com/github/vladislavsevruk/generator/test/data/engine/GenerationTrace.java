@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.engine;
+
+import com.github.vladislavsevruk.generator.test.data.generator.DataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.ParameterizedTypeDataGeneratorAdapter;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects structured trace of single generation call: every generated object with its nesting depth, picked
+ * generator and generation duration. Can be passed to generation call to diagnose generation of specific type instead
+ * of enabling debug logging globally.
+ */
+public final class GenerationTrace {
+
+    /**
+     * Name of system property that enables debug logging of every generated value and picked generator.
+     */
+    public static final String LOGGING_PROPERTY = "testDataGenerator.traceLogging";
+    /**
+     * Shows if debug logging of every generated value and picked generator is enabled. Value is read once on class
+     * initialization so disabled logging is eliminated from generation path by JIT compiler.
+     */
+    public static final boolean LOGGING_ENABLED = Boolean.getBoolean(LOGGING_PROPERTY);
+    private final List<GenerationTraceEntry> entries = new ArrayList<>();
+
+    /**
+     * Returns unmodifiable list of trace entries in order objects generation was started.
+     */
+    public List<GenerationTraceEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Returns trace as text where every generated object is placed at separate line with indent that corresponds to
+     * its nesting depth.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (GenerationTraceEntry entry : entries) {
+            for (int i = 0; i < entry.getDepth(); ++i) {
+                builder.append("  ");
+            }
+            appendTypeName(builder, entry.getTypeMeta());
+            builder.append(" <- ").append(entry.getGeneratorType() == null ? "no matching generator"
+                    : entry.getGeneratorType().getSimpleName());
+            builder.append(" (").append(entry.getDurationNanos()).append(" ns)").append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+
+    GenerationTraceEntry addEntry(int depth, TypeMeta<?> typeMeta, DataGenerator generator) {
+        GenerationTraceEntry entry = new GenerationTraceEntry(depth, getGeneratorType(generator), typeMeta);
+        entries.add(entry);
+        return entry;
+    }
+
+    private void appendTypeName(StringBuilder builder, TypeMeta<?> typeMeta) {
+        builder.append(typeMeta.getType().getName());
+        TypeMeta<?>[] genericTypes = typeMeta.getGenericTypes();
+        if (genericTypes.length != 0) {
+            builder.append('<');
+            for (int i = 0; i < genericTypes.length; ++i) {
+                if (i != 0) {
+                    builder.append(", ");
+                }
+                appendTypeName(builder, genericTypes[i]);
+            }
+            builder.append('>');
+        }
+    }
+
+    private Class<? extends DataGenerator> getGeneratorType(DataGenerator generator) {
+        if (generator == null) {
+            return null;
+        }
+        if (generator instanceof ParameterizedTypeDataGeneratorAdapter) {
+            return ((ParameterizedTypeDataGeneratorAdapter<?>) generator).getParameterizedGenerator().getClass();
+        }
+        return generator.getClass();
+    }
+}
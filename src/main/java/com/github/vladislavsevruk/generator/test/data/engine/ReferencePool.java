@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.engine;
+
+import com.github.vladislavsevruk.generator.test.data.util.TypeMetaKey;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Contains bounded pools of nested models that are shared by all items of single generation call instead of
+ * generating new instances. Pool should be created once per generation call and passed to sessions of all its items,
+ * so pooled models aren't retained after call completion. Safe for concurrent usage by items generated in parallel.
+ */
+public final class ReferencePool {
+
+    private final Map<TypeMetaKey, AtomicReferenceArray<Object>> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Returns pooled model of received type at received slot or <code>null</code> if slot isn't filled yet.
+     *
+     * @param typeMeta  <code>TypeMeta</code> of pooled model.
+     * @param slotIndex <code>int</code> with index of pool slot.
+     * @return pooled model or <code>null</code> if slot is empty.
+     */
+    Object get(TypeMeta<?> typeMeta, int slotIndex) {
+        AtomicReferenceArray<Object> pool = pools.get(new TypeMetaKey(typeMeta));
+        return pool == null ? null : pool.get(slotIndex);
+    }
+
+    /**
+     * Stores received model at received slot of pool if slot is empty. If slot is already filled by concurrently
+     * generated item previously stored model is kept.
+     *
+     * @param typeMeta  <code>TypeMeta</code> of pooled model.
+     * @param poolSize  <code>int</code> with size of pool for received type.
+     * @param slotIndex <code>int</code> with index of pool slot.
+     * @param model     model to store.
+     * @return model stored at slot.
+     */
+    Object putIfAbsent(TypeMeta<?> typeMeta, int poolSize, int slotIndex, Object model) {
+        AtomicReferenceArray<Object> pool = pools
+                .computeIfAbsent(new TypeMetaKey(typeMeta), key -> new AtomicReferenceArray<>(poolSize));
+        if (pool.compareAndSet(slotIndex, null, model)) {
+            return model;
+        }
+        return pool.get(slotIndex);
+    }
+}
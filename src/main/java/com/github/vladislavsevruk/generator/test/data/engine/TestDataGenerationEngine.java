@@ -26,6 +26,8 @@ package com.github.vladislavsevruk.generator.test.data.engine;
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
+import java.util.function.Consumer;
+
 /**
  * Generates testing values for POJO model according to test data generation configuration parameters.
  */
@@ -41,4 +43,28 @@ public interface TestDataGenerationEngine {
      * @return generated model with test values set.
      */
     <T> T generate(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<T> typeMeta);
+
+    /**
+     * Generates received number of models with testing values according to received configuration parameters and
+     * passes them to received consumer in generation order. Every model is generated as separate generation call.
+     * Default implementation generates every model via single model generation method at new generation session.
+     *
+     * @param testDataGenerationConfig <code>TestDataGenerationConfig</code> with configuration values for test data
+     *                                 generation.
+     * @param typeMeta                 <code>TypeMeta</code> with metadata of models to generate testing values for.
+     * @param itemsNumber              <code>int</code> with number of models to generate.
+     * @param consumer                 <code>Consumer</code> that receives generated models.
+     * @param <T>                      type of models to generate test values for.
+     */
+    default <T> void generate(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<T> typeMeta,
+            int itemsNumber, Consumer<? super T> consumer) {
+        if (itemsNumber < 0) {
+            throw new IllegalArgumentException("Items number shouldn't be less than zero.");
+        }
+        ReferencePool referencePool = new ReferencePool();
+        for (int i = 0; i < itemsNumber; ++i) {
+            consumer.accept(GenerationSession.runInNewSession(testDataGenerationConfig, i, referencePool,
+                    () -> generate(testDataGenerationConfig, typeMeta)));
+        }
+    }
 }
@@ -23,14 +23,19 @@
  */
 package com.github.vladislavsevruk.generator.test.data.engine;
 
+import com.github.vladislavsevruk.generator.test.data.config.RecursionPolicy;
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContextManager;
 import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.hook.PostGenerationHook;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import lombok.extern.log4j.Log4j2;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Implementation of <code>TestDataGenerationEngine</code>.
@@ -55,12 +60,83 @@ public class TestDataGenerationEngineImpl implements TestDataGenerationEngine {
      */
     @Override
     public <T> T generate(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<T> typeMeta) {
+        GenerationSession session = GenerationSession.current();
+        if (session == null) {
+            return GenerationSession.runInNewSession(testDataGenerationConfig,
+                    () -> doGenerate(testDataGenerationConfig, GenerationSession.current(), typeMeta));
+        }
+        return doGenerate(testDataGenerationConfig, session, typeMeta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void generate(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<T> typeMeta, int itemsNumber,
+            Consumer<? super T> consumer) {
+        if (itemsNumber < 0) {
+            throw new IllegalArgumentException("Items number shouldn't be less than zero.");
+        }
+        // generator and hooks are resolved once for all models
+        NonParameterizedTypeDataGenerator<T> generator = context.getTestDataGeneratorPicker().pickGenerator(typeMeta);
+        List<PostGenerationHook<? super T>> hooks = context.getPostGenerationHookStorage().getAll(typeMeta);
+        ReferencePool referencePool = new ReferencePool();
+        for (int i = 0; i < itemsNumber; ++i) {
+            consumer.accept(GenerationSession.runInNewSession(testDataGenerationConfig, i, referencePool,
+                    () -> generate(testDataGenerationConfig, GenerationSession.current(), typeMeta, generator,
+                            hooks)));
+        }
+    }
+
+    private <T> T doGenerate(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            TypeMeta<T> typeMeta) {
         NonParameterizedTypeDataGenerator<T> generator = context.getTestDataGeneratorPicker().pickGenerator(typeMeta);
+        return generate(testDataGenerationConfig, session, typeMeta, generator,
+                context.getPostGenerationHookStorage().getAll(typeMeta));
+    }
+
+    private <T> T generate(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            TypeMeta<T> typeMeta, NonParameterizedTypeDataGenerator<T> generator,
+            List<PostGenerationHook<? super T>> hooks) {
+        GenerationMetrics metrics = context.getGenerationMetrics();
+        if (!GenerationSession.isMeasurementRequired(metrics, session)) {
+            return generate(testDataGenerationConfig, session, generator, hooks);
+        }
+        return GenerationSession.runMeasured(metrics, session, typeMeta, generator,
+                () -> generate(testDataGenerationConfig, session, generator, hooks));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T generate(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            NonParameterizedTypeDataGenerator<T> generator, List<PostGenerationHook<? super T>> hooks) {
         if (Objects.isNull(generator)) {
             return null;
         }
+        long decoratedStringsNumber = session.getDecoratedStringsNumber();
         T generatedModel = generator.generate(testDataGenerationConfig);
-        context.getPostGenerationHookStorage().getAll(typeMeta).forEach(hook -> hook.process(generatedModel));
+        if (Objects.isNull(generatedModel) || isReusedModel(testDataGenerationConfig, session, generatedModel)) {
+            // hooks are applied to reused model when its own generation is completed
+            return generatedModel;
+        }
+        if (generatedModel instanceof String && decoratedStringsNumber == session.getDecoratedStringsNumber()) {
+            // strings of custom generators aren't decorated at source so name of generated value is added here
+            generatedModel = (T) session.addValueName(testDataGenerationConfig, (String) generatedModel);
+        }
+        for (PostGenerationHook<? super T> hook : hooks) {
+            hook.process(generatedModel);
+        }
         return generatedModel;
     }
+
+    private boolean isReusedAncestor(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            Object generatedModel) {
+        return testDataGenerationConfig.recursionPolicy() == RecursionPolicy.REUSE_ANCESTOR && session
+                .isPojoInProgress(generatedModel);
+    }
+
+    private boolean isReusedModel(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            Object generatedModel) {
+        return session.isReusedPooledModel(generatedModel) || isReusedAncestor(testDataGenerationConfig, session,
+                generatedModel);
+    }
 }
@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.generator.test.data.generator;
 
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationTrace;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.Objects;
@@ -50,9 +51,13 @@ public abstract class AbstractNonParameterizedTestDataGenerator<T> implements No
     @Override
     public T generate(TestDataGenerationConfig testDataGenerationConfig) {
         Objects.requireNonNull(testDataGenerationConfig, "Received test data generation config shouldn't be null.");
-        log.debug("Trying to generate test data for '{}'.", getTargetType().getName());
+        if (GenerationTrace.LOGGING_ENABLED) {
+            log.debug("Trying to generate test data for '{}'.", getTargetType().getName());
+        }
         T generatedValue = doGenerate(testDataGenerationConfig);
-        log.debug("Successfully generated test data for '{}'.", getTargetType().getName());
+        if (GenerationTrace.LOGGING_ENABLED) {
+            log.debug("Successfully generated test data for '{}'.", getTargetType().getName());
+        }
         return generatedValue;
     }
 
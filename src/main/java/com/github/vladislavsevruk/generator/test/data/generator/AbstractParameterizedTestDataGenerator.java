@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.generator.test.data.generator;
 
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationTrace;
 import com.github.vladislavsevruk.generator.test.data.exception.TypeGenerationException;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import lombok.extern.log4j.Log4j2;
@@ -54,9 +55,13 @@ public abstract class AbstractParameterizedTestDataGenerator<T> implements Param
         Objects.requireNonNull(testDataGenerationConfig, "Received test data generation config shouldn't be null.");
         Objects.requireNonNull(typeMeta, "Received type meta shouldn't be null.");
         validateTypeMeta(typeMeta);
-        log.debug("Trying to generate test data for '{}'.", getTargetType().getName());
+        if (GenerationTrace.LOGGING_ENABLED) {
+            log.debug("Trying to generate test data for '{}'.", getTargetType().getName());
+        }
         T generatedValue = doGenerate(testDataGenerationConfig, typeMeta);
-        log.debug("Successfully generated test data for '{}'.", getTargetType().getName());
+        if (GenerationTrace.LOGGING_ENABLED) {
+            log.debug("Successfully generated test data for '{}'.", getTargetType().getName());
+        }
         return generatedValue;
     }
 
@@ -59,4 +59,11 @@ public class ParameterizedTypeDataGeneratorAdapter<T> implements NonParameterize
     public T generate(TestDataGenerationConfig testDataGenerationConfig) {
         return parameterizedGenerator.generate(testDataGenerationConfig, typeMeta);
     }
+
+    /**
+     * Returns adapted <code>ParameterizedTypeDataGenerator</code>.
+     */
+    public ParameterizedTypeDataGenerator<T> getParameterizedGenerator() {
+        return parameterizedGenerator;
+    }
 }
@@ -23,17 +23,20 @@
  */
 package com.github.vladislavsevruk.generator.test.data.generator.complex;
 
+import com.github.vladislavsevruk.generator.test.data.config.CollectionImplementationPolicy;
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
 import com.github.vladislavsevruk.generator.test.data.exception.TypeGenerationException;
 import com.github.vladislavsevruk.generator.test.data.generator.AbstractParameterizedTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.util.CollectionSizeUtil;
 import com.github.vladislavsevruk.generator.test.data.util.InstanceCreationUtil;
-import com.github.vladislavsevruk.generator.test.data.util.RandomUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 import java.util.AbstractMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -44,6 +47,9 @@ import java.util.Map;
 @SuppressWarnings("java:S3740")
 public class MapTestDataGenerator extends AbstractParameterizedTestDataGenerator<Map> {
 
+    private static final String KEY_NAME_POSTFIX = "-Key";
+    private static final String VALUE_NAME_POSTFIX = "-Value";
+
     private final TestDataGenerationContext context;
 
     public MapTestDataGenerator(TestDataGenerationContext context) {
@@ -61,16 +67,33 @@ public class MapTestDataGenerator extends AbstractParameterizedTestDataGenerator
     @SuppressWarnings({ "unchecked", "java:S3740" })
     @Override
     protected Map doGenerate(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<? extends Map> typeMeta) {
-        int itemsNumber = RandomUtil.getInteger(testDataGenerationConfig.minItemsForCollections(),
-                testDataGenerationConfig.maxItemsForCollections() + 1);
+        GenerationSession session = GenerationSession.current();
+        if (session == null) {
+            // collections nesting depth is kept at session so it's required even for direct calls
+            return GenerationSession
+                    .runInNewSession(testDataGenerationConfig, () -> doGenerate(testDataGenerationConfig, typeMeta));
+        }
+        int itemsNumber = CollectionSizeUtil.getItemsNumber(testDataGenerationConfig, session.getCollectionDepth());
         TypeMeta<?> keyType = typeMeta.getGenericTypes()[0];
         TypeMeta<?> valueType = typeMeta.getGenericTypes()[1];
-        Map map = createItem(typeMeta.getType());
-        for (int i = 0; i < itemsNumber; ++i) {
-            map.put(context.getTestDataGenerationEngine().generate(testDataGenerationConfig, keyType),
-                    context.getTestDataGenerationEngine().generate(testDataGenerationConfig, valueType));
+        CollectionImplementationPolicy policy = testDataGenerationConfig.collectionImplementationPolicy();
+        Map map = createItem(typeMeta.getType(), itemsNumber, policy);
+        String valueName = session.getValueName();
+        session.enterCollection();
+        try {
+            if (valueName == null) {
+                for (int i = 0; i < itemsNumber && !session.isMemoryBudgetExceeded(); ++i) {
+                    map.put(context.getTestDataGenerationEngine().generate(testDataGenerationConfig, keyType),
+                            context.getTestDataGenerationEngine().generate(testDataGenerationConfig, valueType));
+                }
+            } else {
+                putNamedEntries(testDataGenerationConfig, session, map, itemsNumber, keyType, valueType);
+            }
+        } finally {
+            session.exitCollection();
+            session.replaceValueName(valueName);
         }
-        return map;
+        return policy.toResult(typeMeta.getType(), map);
     }
 
     @Override
@@ -89,10 +112,31 @@ public class MapTestDataGenerator extends AbstractParameterizedTestDataGenerator
         }
     }
 
-    private Map<?, ?> createItem(Class<?> type) {
+    private Map<?, ?> createItem(Class<?> type, int itemsNumber, CollectionImplementationPolicy policy) {
         if (type.isAssignableFrom(AbstractMap.class)) {
-            return new HashMap<>();
+            return policy.createMap(itemsNumber);
+        }
+        if (HashMap.class.equals(type)) {
+            return new HashMap<>(CollectionImplementationPolicy.getHashCapacity(itemsNumber));
+        }
+        if (LinkedHashMap.class.equals(type)) {
+            return new LinkedHashMap<>(CollectionImplementationPolicy.getHashCapacity(itemsNumber));
         }
         return (Map<?, ?>) InstanceCreationUtil.createItem(type);
     }
+
+    @SuppressWarnings("unchecked")
+    private void putNamedEntries(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session, Map map,
+            int itemsNumber, TypeMeta<?> keyType, TypeMeta<?> valueType) {
+        // keys and values are named after map so they can be told apart
+        String valueName = session.getValueName();
+        String keyName = valueName + KEY_NAME_POSTFIX;
+        String entryValueName = valueName + VALUE_NAME_POSTFIX;
+        for (int i = 0; i < itemsNumber && !session.isMemoryBudgetExceeded(); ++i) {
+            session.replaceValueName(keyName);
+            Object key = context.getTestDataGenerationEngine().generate(testDataGenerationConfig, keyType);
+            session.replaceValueName(entryValueName);
+            map.put(key, context.getTestDataGenerationEngine().generate(testDataGenerationConfig, valueType));
+        }
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.generator.complex;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Contains reflection data required for POJO generation that is resolved once per type: class to instantiate,
+ * instantiator with ordered list of its arguments for classes without public constructor without arguments and
+ * ordered list of fields with matching setters.
+ */
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Getter(AccessLevel.PACKAGE)
+final class PojoGenerationPlan {
+
+    private final List<ArgumentGenerationPlan> argumentPlans;
+    private final List<FieldGenerationPlan> fieldPlans;
+    private final PojoInstantiator instantiator;
+    private final Class<?> type;
+
+    /**
+     * Contains reflection data required for generation of instantiator argument for single field.
+     */
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    @Getter(AccessLevel.PACKAGE)
+    static final class ArgumentGenerationPlan {
+
+        private final Field field;
+        private final TypeMeta<?> fieldMeta;
+        private final boolean stringDecorationRequired;
+    }
+
+    /**
+     * Contains reflection data required for generation of value for single field.
+     */
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    @Getter(AccessLevel.PACKAGE)
+    static final class FieldGenerationPlan {
+
+        private final Field field;
+        private final TypeMeta<?> fieldMeta;
+        private final Method setter;
+        private final BiConsumer<Object, Object> setterAccessor;
+        private final boolean stringDecorationRequired;
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.generator.complex;
+
+import com.github.vladislavsevruk.generator.test.data.exception.InstanceCreationException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Creates instances of models without public constructor without arguments from generated arguments. Model is created
+ * via all-args constructor, builder chain or static factory method which parameters match fields of model. Parameters
+ * are matched to fields by name if names are present at compiled classes or by type otherwise, in such case signatures
+ * with several parameters of the same type are ambiguous and aren't used. Method handles are resolved once per type so
+ * every instance is created by single invocation chain without reflection.
+ */
+@Getter(AccessLevel.PACKAGE)
+@Log4j2
+final class PojoInstantiator {
+
+    private static final String BUILDER_FACTORY_NAME_SUFFIX = "builder";
+    private static final MethodType BUILDER_FACTORY_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType BUILDER_SETTER_TYPE = MethodType.methodType(Object.class, Object.class,
+            Object.class);
+    private static final MethodType BUILD_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final String FAILED_CREATION_MESSAGE = "Failed to create target model.";
+    private static final MethodType SPREAD_CREATION_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private final List<Field> argumentFields;
+    @Getter(AccessLevel.NONE)
+    private final MethodHandle builderFactoryHandle;
+    @Getter(AccessLevel.NONE)
+    private final MethodHandle[] builderSetterHandles;
+    @Getter(AccessLevel.NONE)
+    private final MethodHandle creationHandle;
+    @Getter(AccessLevel.NONE)
+    private final Object[] defaultArguments;
+
+    private PojoInstantiator(List<Field> argumentFields, MethodHandle builderFactoryHandle,
+            MethodHandle[] builderSetterHandles, MethodHandle creationHandle) {
+        this.argumentFields = argumentFields;
+        this.defaultArguments = argumentFields.stream().map(field -> getDefaultValue(field.getType())).toArray();
+        this.builderFactoryHandle = builderFactoryHandle;
+        this.builderSetterHandles = builderSetterHandles;
+        this.creationHandle = creationHandle;
+    }
+
+    /**
+     * Resolves instantiator for received type. Candidates are checked in the following order: public constructor
+     * which parameters match all instance fields of type and its superclasses, public static method without parameters
+     * which name ends with <code>builder</code> and that returns builder with methods named after fields and
+     * <code>build</code> method that returns instance of type, public static factory method which parameters match all
+     * instance fields of type and its superclasses.
+     *
+     * @param type <code>Class</code> of model to create.
+     * @return <code>PojoInstantiator</code> for received type or <code>null</code> if type has public constructor
+     * without arguments, is abstract or has no matching creation method.
+     */
+    static PojoInstantiator resolve(Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers()) || hasNoArgsConstructor(type)) {
+            return null;
+        }
+        List<Field> fields = getInstanceFields(type);
+        try {
+            for (Constructor<?> constructor : type.getConstructors()) {
+                List<Field> argumentFields = matchParameters(constructor, fields);
+                if (argumentFields != null) {
+                    log.debug(() -> String.format("Using all-args constructor for '%s' creation.", type.getName()));
+                    MethodHandle handle = MethodHandles.publicLookup().unreflectConstructor(constructor);
+                    return new PojoInstantiator(argumentFields, null, null,
+                            toSpreadHandle(handle, argumentFields.size()));
+                }
+            }
+            PojoInstantiator builderInstantiator = resolveBuilder(type, fields);
+            if (builderInstantiator != null) {
+                return builderInstantiator;
+            }
+            for (Method method : type.getMethods()) {
+                List<Field> argumentFields = isStatic(method) && type.equals(method.getReturnType()) ? matchParameters(
+                        method, fields) : null;
+                if (argumentFields != null) {
+                    log.debug(() -> String.format("Using '%s' factory method for '%s' creation.", method.getName(),
+                            type.getName()));
+                    MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+                    return new PojoInstantiator(argumentFields, null, null,
+                            toSpreadHandle(handle, argumentFields.size()));
+                }
+            }
+        } catch (IllegalAccessException iaEx) {
+            log.debug(() -> String.format("Creation methods of '%s' are inaccessible.", type.getName()));
+        }
+        return null;
+    }
+
+    /**
+     * Creates new model instance using received arguments. <code>null</code> arguments of primitive fields are replaced
+     * with default values of primitive types.
+     *
+     * @param arguments array with values of argument fields in the same order.
+     * @return new model instance.
+     * @throws InstanceCreationException if creation method failed.
+     */
+    @SuppressWarnings("java:S1181")
+    Object instantiate(Object[] arguments) {
+        for (int i = 0; i < arguments.length; ++i) {
+            if (arguments[i] == null) {
+                arguments[i] = defaultArguments[i];
+            }
+        }
+        try {
+            if (builderFactoryHandle == null) {
+                return (Object) creationHandle.invokeExact(arguments);
+            }
+            Object builder = (Object) builderFactoryHandle.invokeExact();
+            for (int i = 0; i < builderSetterHandles.length; ++i) {
+                builder = (Object) builderSetterHandles[i].invokeExact(builder, arguments[i]);
+            }
+            return (Object) creationHandle.invokeExact(builder);
+        } catch (Throwable throwable) {
+            log.error(FAILED_CREATION_MESSAGE, throwable);
+            throw new InstanceCreationException(FAILED_CREATION_MESSAGE, throwable);
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException nsmEx) {
+            return null;
+        }
+    }
+
+    private static Field findField(List<Field> fields, String name) {
+        for (Field field : fields) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static Object getDefaultValue(Class<?> type) {
+        // primitive parameters can't receive null so zero value of type is used instead
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
+    private static List<Field> getInstanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> clazz = type; !Object.class.equals(clazz); clazz = clazz.getSuperclass()) {
+            Field[] declaredFields = clazz.getDeclaredFields();
+            // order of declared fields isn't specified so fields are sorted to keep seeded generation reproducible
+            Arrays.sort(declaredFields, Comparator.comparing(Field::getName));
+            for (Field field : declaredFields) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static boolean hasNoArgsConstructor(Class<?> type) {
+        return Arrays.stream(type.getConstructors()).anyMatch(constructor -> constructor.getParameterCount() == 0);
+    }
+
+    private static boolean isBuilderFactory(Method method) {
+        String name = method.getName();
+        int suffixStart = name.length() - BUILDER_FACTORY_NAME_SUFFIX.length();
+        return isStatic(method) && method.getParameterCount() == 0 && suffixStart >= 0 && name
+                .regionMatches(true, suffixStart, BUILDER_FACTORY_NAME_SUFFIX, 0, BUILDER_FACTORY_NAME_SUFFIX.length());
+    }
+
+    private static boolean isStatic(Executable executable) {
+        return Modifier.isStatic(executable.getModifiers());
+    }
+
+    private static Field matchParameterByType(Parameter parameter, List<Field> fields) {
+        Field matchingField = null;
+        for (Field field : fields) {
+            if (field.getType().equals(parameter.getType())) {
+                if (matchingField != null) {
+                    // values of fields with the same type may be swapped so such signatures aren't used
+                    log.debug(() -> String.format("Parameters of '%s' are ambiguous.",
+                            parameter.getDeclaringExecutable().getName()));
+                    return null;
+                }
+                matchingField = field;
+            }
+        }
+        return matchingField;
+    }
+
+    private static List<Field> matchParameters(Executable executable, List<Field> fields) {
+        Parameter[] parameters = executable.getParameters();
+        if (parameters.length != fields.size()) {
+            return null;
+        }
+        boolean namesPresent = Arrays.stream(parameters).allMatch(Parameter::isNamePresent);
+        List<Field> argumentFields = new ArrayList<>(parameters.length);
+        for (Parameter parameter : parameters) {
+            Field field = namesPresent ? findField(fields, parameter.getName())
+                    : matchParameterByType(parameter, fields);
+            if (field == null || !field.getType().equals(parameter.getType()) || argumentFields.contains(field)) {
+                return null;
+            }
+            argumentFields.add(field);
+        }
+        return argumentFields;
+    }
+
+    private static PojoInstantiator resolveBuilder(Class<?> type, List<Field> instanceFields)
+            throws IllegalAccessException {
+        for (Method builderFactory : type.getMethods()) {
+            // utility methods may return unrelated types with build method so only builder-like names are accepted
+            if (!isBuilderFactory(builderFactory)) {
+                continue;
+            }
+            Class<?> builderType = builderFactory.getReturnType();
+            Method build = findMethod(builderType, "build");
+            if (builderType.equals(type) || build == null || !type.isAssignableFrom(build.getReturnType())) {
+                continue;
+            }
+            log.debug(() -> String.format("Using '%s' builder for '%s' creation.", builderType.getName(),
+                    type.getName()));
+            List<Field> fields = new ArrayList<>();
+            List<MethodHandle> setterHandles = new ArrayList<>();
+            for (Field field : instanceFields) {
+                // builder methods are named after fields so values can't be swapped
+                Method setter = findMethod(builderType, field.getName(), field.getType());
+                if (setter != null && builderType.isAssignableFrom(setter.getReturnType())) {
+                    fields.add(field);
+                    setterHandles.add(MethodHandles.publicLookup().unreflect(setter).asType(BUILDER_SETTER_TYPE));
+                }
+            }
+            return new PojoInstantiator(fields,
+                    MethodHandles.publicLookup().unreflect(builderFactory).asType(BUILDER_FACTORY_TYPE),
+                    setterHandles.toArray(new MethodHandle[0]),
+                    MethodHandles.publicLookup().unreflect(build).asType(BUILD_TYPE));
+        }
+        return null;
+    }
+
+    private static MethodHandle toSpreadHandle(MethodHandle handle, int parametersNumber) {
+        return handle.asSpreader(Object[].class, parametersNumber).asType(SPREAD_CREATION_TYPE);
+    }
+}
@@ -23,11 +23,18 @@
  */
 package com.github.vladislavsevruk.generator.test.data.generator.complex;
 
+import com.github.vladislavsevruk.generator.test.data.config.RecursionPolicy;
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
 import com.github.vladislavsevruk.generator.test.data.generator.AbstractParameterizedTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.complex.PojoGenerationPlan.ArgumentGenerationPlan;
+import com.github.vladislavsevruk.generator.test.data.generator.complex.PojoGenerationPlan.FieldGenerationPlan;
+import com.github.vladislavsevruk.generator.test.data.mapping.SetterAccessorProvider;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
 import com.github.vladislavsevruk.generator.test.data.util.InstanceCreationUtil;
+import com.github.vladislavsevruk.generator.test.data.util.TypeMetaKey;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import lombok.extern.log4j.Log4j2;
 
@@ -35,19 +42,24 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.Dictionary;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TimeZone;
-import java.util.function.BinaryOperator;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 /**
- * Implements <code>TypeTestDataGenerator</code> for POJOs.
+ * Implements <code>TypeTestDataGenerator</code> for POJOs. Reflection data required for generation is resolved once
+ * per type and reused by subsequent generations. Recursive types are handled according to recursion policy and max
+ * POJO depth from generation config.
  *
  * @see NonParameterizedTypeDataGenerator
  */
@@ -55,6 +67,7 @@ import java.util.stream.Collectors;
 public class PojoTestDataGenerator extends AbstractParameterizedTestDataGenerator<Object> {
 
     private final TestDataGenerationContext context;
+    private final Map<TypeMetaKey, PojoGenerationPlan> generationPlans = new ConcurrentHashMap<>();
 
     public PojoTestDataGenerator(TestDataGenerationContext context) {
         this.context = context;
@@ -70,9 +83,32 @@ public class PojoTestDataGenerator extends AbstractParameterizedTestDataGenerato
 
     @Override
     protected Object doGenerate(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<?> typeMeta) {
-        Object object = InstanceCreationUtil.createItem(typeMeta.getType());
-        setValues(testDataGenerationConfig, typeMeta, typeMeta.getType(), object);
-        return object;
+        GenerationSession session = GenerationSession.current();
+        if (Objects.isNull(session)) {
+            // field names and generation path are kept at session so it's required even for direct calls
+            return GenerationSession
+                    .runInNewSession(testDataGenerationConfig, () -> doGenerate(testDataGenerationConfig, typeMeta));
+        }
+        if (session.getPojoDepth() >= testDataGenerationConfig.maxPojoDepth()) {
+            return null;
+        }
+        PojoGenerationPlan generationPlan = getGenerationPlan(typeMeta);
+        RecursionPolicy recursionPolicy = testDataGenerationConfig.recursionPolicy();
+        if (recursionPolicy != RecursionPolicy.GENERATE_UNTIL_MAX_DEPTH && session
+                .hasPojoAncestor(generationPlan.getType())) {
+            // ancestors created via instantiators don't exist yet so null is set for them even if reuse is allowed
+            return recursionPolicy == RecursionPolicy.REUSE_ANCESTOR ? session
+                    .findPojoAncestor(generationPlan.getType()) : null;
+        }
+        int poolSize = testDataGenerationConfig.referencePoolSize(generationPlan.getType());
+        // only nested models are shared so every top level model is distinct
+        if (poolSize == 0 || session.getPojoDepth() == 0 || session.isPooledModelGeneration()) {
+            return generatePojo(testDataGenerationConfig, session, generationPlan);
+        }
+        int slotIndex = session.getRandomSource().nextInt(poolSize);
+        // slot is filled via engine so post generation hooks are applied to pooled model once
+        return session.getPooledModel(testDataGenerationConfig, typeMeta, poolSize, slotIndex,
+                () -> context.getTestDataGenerationEngine().generate(testDataGenerationConfig, typeMeta));
     }
 
     @Override
@@ -80,73 +116,136 @@ public class PojoTestDataGenerator extends AbstractParameterizedTestDataGenerato
         return Object.class;
     }
 
-    private <T> T[] addFieldNameToString(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<?> typeMeta,
-            T[] values, String fieldName) {
-        for (int i = 0; i < values.length; ++i) {
-            values[i] = addFieldNameToString(testDataGenerationConfig, typeMeta.getGenericTypes()[0], values[i],
-                    fieldName);
+    private void addFieldPlans(TypeMeta<?> typeMeta, Class<?> clazz, List<FieldGenerationPlan> fieldPlans,
+            List<Field> argumentFields) {
+        Field[] fields = clazz.getDeclaredFields();
+        // order of declared fields isn't specified so fields are sorted to keep seeded generation reproducible
+        Arrays.sort(fields, Comparator.comparing(Field::getName));
+        for (Field field : fields) {
+            if (isNotStatic(field) && isNotFinal(field) && !argumentFields.contains(field)) {
+                Method matchingSetter = context.getSetterMapper().findMatchingSetter(typeMeta, field);
+                if (Objects.nonNull(matchingSetter)) {
+                    TypeMeta<?> fieldMeta = context.getFieldTypeResolver().resolveField(typeMeta, field);
+                    BiConsumer<Object, Object> setterAccessor = SetterAccessorProvider
+                            .getAccessor(matchingSetter, context.getGenerationMetrics());
+                    fieldPlans.add(new FieldGenerationPlan(field, fieldMeta, matchingSetter, setterAccessor,
+                            isStringDecorationRequired(fieldMeta)));
+                }
+            }
+        }
+        if (hasCustomSuperclass(clazz)) {
+            addFieldPlans(typeMeta, clazz.getSuperclass(), fieldPlans, argumentFields);
         }
-        return values;
     }
 
-    @SuppressWarnings("unchecked")
-    private <U, T extends Collection<U>> T addFieldNameToString(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<?> typeMeta,
-            T values, String fieldName) {
-        try {
-            Class<? extends Collection> clazz = values.getClass();
-            T newCollection = (T) clazz.getConstructor().newInstance();
-            return values.stream()
-                    .map(item -> addFieldNameToString(testDataGenerationConfig, typeMeta.getGenericTypes()[0], item,
-                            fieldName)).collect(Collectors.toCollection(() -> newCollection));
-        } catch (ReflectiveOperationException roEx) {
-            return values;
+    private PojoGenerationPlan createGenerationPlan(TypeMeta<?> typeMeta) {
+        log.debug(() -> String.format("Creating generation plan for '%s'.", typeMeta.getType().getName()));
+        PojoInstantiator instantiator = PojoInstantiator.resolve(typeMeta.getType());
+        List<Field> argumentFields = Objects.isNull(instantiator) ? Collections.emptyList()
+                : instantiator.getArgumentFields();
+        List<ArgumentGenerationPlan> argumentPlans = new ArrayList<>(argumentFields.size());
+        for (Field field : argumentFields) {
+            TypeMeta<?> fieldMeta = context.getFieldTypeResolver().resolveField(typeMeta, field);
+            argumentPlans.add(new ArgumentGenerationPlan(field, fieldMeta, isStringDecorationRequired(fieldMeta)));
         }
+        List<FieldGenerationPlan> fieldPlans = new ArrayList<>();
+        addFieldPlans(typeMeta, typeMeta.getType(), fieldPlans, argumentFields);
+        return new PojoGenerationPlan(argumentPlans, fieldPlans, instantiator, typeMeta.getType());
     }
 
-    @SuppressWarnings("unchecked")
-    private <U, V, T extends Map<U, V>> T addFieldNameToString(TestDataGenerationConfig testDataGenerationConfig,
-            TypeMeta<?> typeMeta, T values, String fieldName) {
-        try {
-            T newMap = (T) values.getClass().getConstructor().newInstance();
-            Function<? super Map.Entry<U, V>, ? extends U> mapKeyFunction = mapKeyFunction(testDataGenerationConfig,
-                    typeMeta, fieldName);
-            Function<? super Map.Entry<U, V>, ? extends V> mapValueFunction = mapValueFunction(testDataGenerationConfig,
-                    typeMeta, fieldName);
-            return values.entrySet().stream()
-                    .collect(Collectors.toMap(mapKeyFunction, mapValueFunction, throwingMerger(), () -> newMap));
-        } catch (ReflectiveOperationException roEx) {
-            return values;
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private <T> T addFieldNameToString(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<?> typeMeta, T value,
-            String fieldName) {
-        if (Objects.isNull(value)) {
+    private Object generateArgument(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            ArgumentGenerationPlan argumentPlan) {
+        NonParameterizedTypeDataGenerator<?> customGenerator = context.getCustomFieldMappingStorage()
+                .getMapping(argumentPlan.getField());
+        if (Objects.nonNull(customGenerator)) {
+            session.replaceValueName(null);
+            return customGenerator.generate(testDataGenerationConfig);
+        }
+        NonParameterizedTypeDataGenerator<?> matchingGenerator = context.getTestDataGeneratorPicker()
+                .pickGenerator(argumentPlan.getFieldMeta());
+        if (Objects.isNull(matchingGenerator)) {
             return null;
         }
-        if (typeMeta.getType().isAssignableFrom(String.class)) {
-            String prefix = testDataGenerationConfig.testDataPrefix();
-            return (T) (prefix + fieldName + "-" + value.toString().substring(prefix.length()));
+        return generateDecoratedValue(testDataGenerationConfig, session, argumentPlan.getField(),
+                argumentPlan.getFieldMeta(), argumentPlan.isStringDecorationRequired(), matchingGenerator);
+    }
+
+    private Object[] generateArguments(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            PojoGenerationPlan generationPlan) {
+        List<ArgumentGenerationPlan> argumentPlans = generationPlan.getArgumentPlans();
+        Object[] arguments = new Object[argumentPlans.size()];
+        String outerValueName = session.getValueName();
+        session.enterPendingPojo(generationPlan.getType());
+        try {
+            for (int i = 0; i < arguments.length; ++i) {
+                arguments[i] = generateArgument(testDataGenerationConfig, session, argumentPlans.get(i));
+            }
+        } finally {
+            session.exitPojo();
+            session.replaceValueName(outerValueName);
         }
-        if (Collection.class.isAssignableFrom(value.getClass())) {
-            return (T) addFieldNameToString(testDataGenerationConfig, typeMeta, (Collection<?>) value, fieldName);
+        return arguments;
+    }
+
+    private Object generateDecoratedValue(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            Field field, TypeMeta<?> fieldMeta, boolean stringDecorationRequired,
+            NonParameterizedTypeDataGenerator<?> generator) {
+        if (!stringDecorationRequired) {
+            session.replaceValueName(null);
+            return generateValue(testDataGenerationConfig, session, fieldMeta, generator);
+        }
+        // strings are decorated with field name by built-in generator itself so values are built only once
+        session.replaceValueName(field.getName());
+        long decoratedStringsNumber = session.getDecoratedStringsNumber();
+        Object value = generateValue(testDataGenerationConfig, session, fieldMeta, generator);
+        if (!(value instanceof String) || decoratedStringsNumber != session.getDecoratedStringsNumber()) {
+            // strings inside containers are decorated by engine when elements are generated
+            return value;
         }
-        if (Object[].class.isAssignableFrom(value.getClass())) {
-            return (T) addFieldNameToString(testDataGenerationConfig, typeMeta, (Object[]) value, fieldName);
+        // strings produced by custom generators are decorated afterwards
+        return session.addValueName(testDataGenerationConfig, (String) value);
+    }
+
+    private Object generatePojo(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            PojoGenerationPlan generationPlan) {
+        Object object = Objects.isNull(generationPlan.getInstantiator()) ? InstanceCreationUtil
+                .createItem(generationPlan.getType()) : generationPlan.getInstantiator()
+                .instantiate(generateArguments(testDataGenerationConfig, session, generationPlan));
+        if (generationPlan.getFieldPlans().isEmpty()) {
+            return object;
         }
-        if (Map.class.isAssignableFrom(value.getClass())) {
-            return (T) addFieldNameToString(testDataGenerationConfig, typeMeta, (Map<?, ?>) value, fieldName);
+        String outerValueName = session.getValueName();
+        session.enterPojo(object);
+        try {
+            for (FieldGenerationPlan fieldPlan : generationPlan.getFieldPlans()) {
+                setValue(testDataGenerationConfig, session, fieldPlan, object);
+            }
+        } finally {
+            session.exitPojo();
+            session.replaceValueName(outerValueName);
         }
-        return value;
+        return object;
+    }
+
+    private Object generateValue(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            TypeMeta<?> fieldMeta, NonParameterizedTypeDataGenerator<?> generator) {
+        GenerationMetrics metrics = context.getGenerationMetrics();
+        if (!GenerationSession.isMeasurementRequired(metrics, session)) {
+            return generator.generate(testDataGenerationConfig);
+        }
+        return GenerationSession.runMeasured(metrics, session, fieldMeta, generator,
+                () -> generator.generate(testDataGenerationConfig));
     }
 
-    private NonParameterizedTypeDataGenerator<?> getMatchingGenerator(TypeMeta<?> typeMeta, Field field) {
-        if (context.getCustomFieldMappingStorage().hasMapping(field)) {
-            return context.getCustomFieldMappingStorage().getMapping(field);
+    private PojoGenerationPlan getGenerationPlan(TypeMeta<?> typeMeta) {
+        TypeMetaKey typeMetaKey = new TypeMetaKey(typeMeta);
+        PojoGenerationPlan generationPlan = generationPlans.get(typeMetaKey);
+        if (Objects.isNull(generationPlan)) {
+            // plans creation doesn't depend on each other so concurrent creation of the same plan is harmless
+            generationPlan = createGenerationPlan(typeMeta);
+            generationPlans.putIfAbsent(typeMetaKey, generationPlan);
         }
-        TypeMeta<?> fieldMeta = context.getFieldTypeResolver().resolveField(typeMeta, field);
-        return context.getTestDataGeneratorPicker().pickGenerator(fieldMeta);
+        return generationPlan;
     }
 
     private boolean hasCustomSuperclass(Class<?> clazz) {
@@ -162,6 +261,18 @@ public class PojoTestDataGenerator extends AbstractParameterizedTestDataGenerato
                 .isAssignableFrom(type) && !Dictionary.class.isAssignableFrom(type);
     }
 
+    private boolean isStringDecorationRequired(TypeMeta<?> typeMeta) {
+        if (typeMeta.getType().isAssignableFrom(String.class)) {
+            return true;
+        }
+        for (TypeMeta<?> genericType : typeMeta.getGenericTypes()) {
+            if (isStringDecorationRequired(genericType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean isNotFinal(Field field) {
         return !Modifier.isFinal(field.getModifiers());
     }
@@ -170,55 +281,30 @@ public class PojoTestDataGenerator extends AbstractParameterizedTestDataGenerato
         return !Modifier.isStatic(field.getModifiers());
     }
 
-    private <U, V, T extends Map.Entry<U, V>> Function<? super T, ? extends U> mapKeyFunction(
-            TestDataGenerationConfig testDataGenerationConfig, TypeMeta<?> typeMeta, String fieldName) {
-        return entry -> addFieldNameToString(testDataGenerationConfig, typeMeta.getGenericTypes()[0], entry.getKey(),
-                fieldName + "-Key");
-    }
-
-    private <U, V, T extends Map.Entry<U, V>> Function<? super T, ? extends V> mapValueFunction(
-            TestDataGenerationConfig testDataGenerationConfig, TypeMeta<?> typeMeta, String fieldName) {
-        return entry -> addFieldNameToString(testDataGenerationConfig, typeMeta.getGenericTypes()[1], entry.getValue(),
-                fieldName + "-Value");
-    }
-
-    private void setValue(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<?> typeMeta, Object object,
-            Field field) {
-        Method matchingSetter = context.getSetterMapper().findMatchingSetter(typeMeta, field);
-        if (Objects.nonNull(matchingSetter)) {
-            NonParameterizedTypeDataGenerator<?> matchingGenerator = getMatchingGenerator(typeMeta, field);
-            if (Objects.nonNull(matchingGenerator)) {
-                Object value = matchingGenerator.generate(testDataGenerationConfig);
-                if (!context.getCustomFieldMappingStorage().hasMapping(field)) {
-                    TypeMeta<?> fieldMeta = context.getFieldTypeResolver().resolveField(typeMeta, field);
-                    value = addFieldNameToString(testDataGenerationConfig, fieldMeta, value, field.getName());
-                }
-                setValue(matchingSetter, object, value);
-            }
+    private void setValue(TestDataGenerationConfig testDataGenerationConfig, GenerationSession session,
+            FieldGenerationPlan fieldPlan, Object object) {
+        NonParameterizedTypeDataGenerator<?> customGenerator = context.getCustomFieldMappingStorage()
+                .getMapping(fieldPlan.getField());
+        if (Objects.nonNull(customGenerator)) {
+            session.replaceValueName(null);
+            setValue(fieldPlan, object, customGenerator.generate(testDataGenerationConfig));
+            return;
         }
-    }
-
-    private void setValue(Method matchingSetter, Object object, Object value) {
-        try {
-            matchingSetter.invoke(object, value);
-        } catch (ReflectiveOperationException roEx) {
-            log.error("Failed to set value via '{}' method.", matchingSetter.getName());
+        NonParameterizedTypeDataGenerator<?> matchingGenerator = context.getTestDataGeneratorPicker()
+                .pickGenerator(fieldPlan.getFieldMeta());
+        if (Objects.nonNull(matchingGenerator)) {
+            setValue(fieldPlan, object,
+                    generateDecoratedValue(testDataGenerationConfig, session, fieldPlan.getField(),
+                            fieldPlan.getFieldMeta(), fieldPlan.isStringDecorationRequired(), matchingGenerator));
         }
     }
 
-    private void setValues(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<?> typeMeta, Class<?> clazz,
-            Object object) {
-        for (Field field : clazz.getDeclaredFields()) {
-            if (isNotStatic(field) && isNotFinal(field)) {
-                setValue(testDataGenerationConfig, typeMeta, object, field);
-            }
-        }
-        if (hasCustomSuperclass(clazz)) {
-            setValues(testDataGenerationConfig, typeMeta, clazz.getSuperclass(), object);
+    private void setValue(FieldGenerationPlan fieldPlan, Object object, Object value) {
+        try {
+            fieldPlan.getSetterAccessor().accept(object, value);
+        } catch (RuntimeException rEx) {
+            log.error("Failed to set value via '{}' method.", fieldPlan.getSetter().getName());
         }
     }
 
-    private <T> BinaryOperator<T> throwingMerger() {
-        return (u, v) -> { throw new IllegalStateException(String.format("Duplicate key %s", u)); };
-    }
 }
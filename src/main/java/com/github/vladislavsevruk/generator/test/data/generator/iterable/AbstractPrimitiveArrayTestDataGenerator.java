@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.generator.iterable;
+
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
+import com.github.vladislavsevruk.generator.test.data.generator.AbstractNonParameterizedTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.util.CollectionSizeUtil;
+
+/**
+ * Contains common logic for generators of primitive arrays. Arrays are filled in bulk directly from random source of
+ * generation session so elements aren't boxed.
+ *
+ * @param <T> target primitive array type.
+ */
+public abstract class AbstractPrimitiveArrayTestDataGenerator<T> extends AbstractNonParameterizedTestDataGenerator<T> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canGenerate(Class<?> type) {
+        return getTargetType().equals(type);
+    }
+
+    @Override
+    protected T doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
+        return generateArray(getItemsNumber(testDataGenerationConfig));
+    }
+
+    /**
+     * Creates new array with received length and fills it with pseudorandom values.
+     *
+     * @param itemsNumber <code>int</code> with array length.
+     * @return generated array.
+     */
+    protected abstract T generateArray(int itemsNumber);
+
+    /**
+     * Returns length of array to generate.
+     *
+     * @param testDataGenerationConfig <code>TestDataGenerationConfig</code> with generation parameters.
+     * @return <code>int</code> with array length.
+     */
+    protected int getItemsNumber(TestDataGenerationConfig testDataGenerationConfig) {
+        GenerationSession session = GenerationSession.current();
+        return CollectionSizeUtil
+                .getItemsNumber(testDataGenerationConfig, session == null ? 0 : session.getCollectionDepth());
+    }
+}
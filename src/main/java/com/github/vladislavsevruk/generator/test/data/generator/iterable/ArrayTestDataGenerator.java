@@ -25,13 +25,15 @@ package com.github.vladislavsevruk.generator.test.data.generator.iterable;
 
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
 import com.github.vladislavsevruk.generator.test.data.exception.TypeGenerationException;
 import com.github.vladislavsevruk.generator.test.data.generator.AbstractParameterizedTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
-import com.github.vladislavsevruk.generator.test.data.util.RandomUtil;
+import com.github.vladislavsevruk.generator.test.data.util.CollectionSizeUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 
 /**
  * Implements <code>TypeTestDataGenerator</code> for array type.
@@ -57,14 +59,27 @@ public class ArrayTestDataGenerator extends AbstractParameterizedTestDataGenerat
     @Override
     protected Object[] doGenerate(TestDataGenerationConfig testDataGenerationConfig,
             TypeMeta<? extends Object[]> typeMeta) {
-        int itemsNumber = RandomUtil.getInteger(testDataGenerationConfig.minItemsForCollections(),
-                testDataGenerationConfig.maxItemsForCollections() + 1);
+        GenerationSession session = GenerationSession.current();
+        if (session == null) {
+            // collections nesting depth is kept at session so it's required even for direct calls
+            return GenerationSession
+                    .runInNewSession(testDataGenerationConfig, () -> doGenerate(testDataGenerationConfig, typeMeta));
+        }
+        int itemsNumber = CollectionSizeUtil.getItemsNumber(testDataGenerationConfig, session.getCollectionDepth());
         TypeMeta<?> innerType = typeMeta.getGenericTypes()[0];
         Object[] array = createItem(innerType.getType(), itemsNumber);
-        for (int i = 0; i < itemsNumber; ++i) {
-            array[i] = context.getTestDataGenerationEngine().generate(testDataGenerationConfig, innerType);
+        int generatedItemsNumber = 0;
+        session.enterCollection();
+        try {
+            for (; generatedItemsNumber < itemsNumber && !session.isMemoryBudgetExceeded(); ++generatedItemsNumber) {
+                array[generatedItemsNumber] = context.getTestDataGenerationEngine()
+                        .generate(testDataGenerationConfig, innerType);
+            }
+        } finally {
+            session.exitCollection();
         }
-        return array;
+        // array is truncated if generation was stopped by exceeded memory budget
+        return generatedItemsNumber == itemsNumber ? array : Arrays.copyOf(array, generatedItemsNumber);
     }
 
     @Override
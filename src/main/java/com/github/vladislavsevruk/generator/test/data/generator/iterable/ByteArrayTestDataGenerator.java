@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.generator.iterable;
+
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.util.RandomUtil;
+
+/**
+ * Implements <code>TypeTestDataGenerator</code> for byte array type. Elements are picked from whole <code>byte</code>
+ * values range. Array length conforms payload size range from generation config.
+ *
+ * @see NonParameterizedTypeDataGenerator
+ */
+public class ByteArrayTestDataGenerator extends AbstractPrimitiveArrayTestDataGenerator<byte[]> {
+
+    @Override
+    protected byte[] generateArray(int itemsNumber) {
+        byte[] array = new byte[itemsNumber];
+        RandomUtil.fillBytes(array);
+        return array;
+    }
+
+    @Override
+    protected int getItemsNumber(TestDataGenerationConfig testDataGenerationConfig) {
+        return RandomUtil.nextInt(testDataGenerationConfig.minPayloadSize(),
+                testDataGenerationConfig.maxPayloadSize() + 1);
+    }
+
+    @Override
+    protected Class<byte[]> getTargetType() {
+        return byte[].class;
+    }
+}
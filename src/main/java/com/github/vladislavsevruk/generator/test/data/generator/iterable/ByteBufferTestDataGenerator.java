@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.generator.iterable;
+
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.generator.AbstractNonParameterizedTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.util.RandomUtil;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implements <code>TypeTestDataGenerator</code> for ByteBuffer type. Buffer capacity conforms payload size range from
+ * generation config and buffer is direct if it's enabled by generation config. Generated buffer is ready for reading.
+ *
+ * @see NonParameterizedTypeDataGenerator
+ */
+public class ByteBufferTestDataGenerator extends AbstractNonParameterizedTestDataGenerator<ByteBuffer> {
+
+    @Override
+    protected ByteBuffer doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
+        int size = RandomUtil.nextInt(testDataGenerationConfig.minPayloadSize(),
+                testDataGenerationConfig.maxPayloadSize() + 1);
+        ByteBuffer buffer = testDataGenerationConfig.directByteBuffers() ? ByteBuffer.allocateDirect(size)
+                : ByteBuffer.allocate(size);
+        RandomUtil.fillBytes(buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    @Override
+    protected Class<ByteBuffer> getTargetType() {
+        return ByteBuffer.class;
+    }
+}
@@ -23,13 +23,15 @@
  */
 package com.github.vladislavsevruk.generator.test.data.generator.iterable;
 
+import com.github.vladislavsevruk.generator.test.data.config.CollectionImplementationPolicy;
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
 import com.github.vladislavsevruk.generator.test.data.exception.TypeGenerationException;
 import com.github.vladislavsevruk.generator.test.data.generator.AbstractParameterizedTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.util.CollectionSizeUtil;
 import com.github.vladislavsevruk.generator.test.data.util.InstanceCreationUtil;
-import com.github.vladislavsevruk.generator.test.data.util.RandomUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 import java.util.AbstractList;
@@ -61,14 +63,25 @@ public class ListTestDataGenerator extends AbstractParameterizedTestDataGenerato
     @SuppressWarnings("unchecked")
     @Override
     protected List<?> doGenerate(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<? extends List> typeMeta) {
-        int itemsNumber = RandomUtil.getInteger(testDataGenerationConfig.minItemsForCollections(),
-                testDataGenerationConfig.maxItemsForCollections() + 1);
+        GenerationSession session = GenerationSession.current();
+        if (session == null) {
+            // collections nesting depth is kept at session so it's required even for direct calls
+            return GenerationSession
+                    .runInNewSession(testDataGenerationConfig, () -> doGenerate(testDataGenerationConfig, typeMeta));
+        }
+        int itemsNumber = CollectionSizeUtil.getItemsNumber(testDataGenerationConfig, session.getCollectionDepth());
         TypeMeta<?> innerType = typeMeta.getGenericTypes()[0];
-        List list = createItem(typeMeta.getType(), itemsNumber);
-        for (int i = 0; i < itemsNumber; ++i) {
-            list.add(context.getTestDataGenerationEngine().generate(testDataGenerationConfig, innerType));
+        CollectionImplementationPolicy policy = testDataGenerationConfig.collectionImplementationPolicy();
+        List list = createItem(typeMeta.getType(), itemsNumber, policy);
+        session.enterCollection();
+        try {
+            for (int i = 0; i < itemsNumber && !session.isMemoryBudgetExceeded(); ++i) {
+                list.add(context.getTestDataGenerationEngine().generate(testDataGenerationConfig, innerType));
+            }
+        } finally {
+            session.exitCollection();
         }
-        return list;
+        return policy.toResult(typeMeta.getType(), list);
     }
 
     @SuppressWarnings("java:S3740")
@@ -88,8 +101,11 @@ public class ListTestDataGenerator extends AbstractParameterizedTestDataGenerato
         }
     }
 
-    private List<?> createItem(Class<?> type, int itemsNumber) {
+    private List<?> createItem(Class<?> type, int itemsNumber, CollectionImplementationPolicy policy) {
         if (type.isAssignableFrom(AbstractList.class)) {
+            return policy.createList(itemsNumber);
+        }
+        if (ArrayList.class.equals(type)) {
             return new ArrayList<>(itemsNumber);
         }
         return (List<?>) InstanceCreationUtil.createItem(type);
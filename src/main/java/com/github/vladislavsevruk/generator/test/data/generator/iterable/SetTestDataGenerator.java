@@ -23,16 +23,19 @@
  */
 package com.github.vladislavsevruk.generator.test.data.generator.iterable;
 
+import com.github.vladislavsevruk.generator.test.data.config.CollectionImplementationPolicy;
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
 import com.github.vladislavsevruk.generator.test.data.exception.TypeGenerationException;
 import com.github.vladislavsevruk.generator.test.data.generator.AbstractParameterizedTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.util.CollectionSizeUtil;
 import com.github.vladislavsevruk.generator.test.data.util.InstanceCreationUtil;
-import com.github.vladislavsevruk.generator.test.data.util.RandomUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 import java.util.AbstractSet;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -61,14 +64,25 @@ public class SetTestDataGenerator extends AbstractParameterizedTestDataGenerator
     @SuppressWarnings("unchecked")
     @Override
     protected Set<?> doGenerate(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<? extends Set> typeMeta) {
-        int itemsNumber = RandomUtil.getInteger(testDataGenerationConfig.minItemsForCollections(),
-                testDataGenerationConfig.maxItemsForCollections() + 1);
+        GenerationSession session = GenerationSession.current();
+        if (session == null) {
+            // collections nesting depth is kept at session so it's required even for direct calls
+            return GenerationSession
+                    .runInNewSession(testDataGenerationConfig, () -> doGenerate(testDataGenerationConfig, typeMeta));
+        }
+        int itemsNumber = CollectionSizeUtil.getItemsNumber(testDataGenerationConfig, session.getCollectionDepth());
         TypeMeta<?> innerType = typeMeta.getGenericTypes()[0];
-        Set set = createItem(typeMeta.getType());
-        for (int i = 0; i < itemsNumber; ++i) {
-            set.add(context.getTestDataGenerationEngine().generate(testDataGenerationConfig, innerType));
+        CollectionImplementationPolicy policy = testDataGenerationConfig.collectionImplementationPolicy();
+        Set set = createItem(typeMeta.getType(), itemsNumber, policy);
+        session.enterCollection();
+        try {
+            for (int i = 0; i < itemsNumber && !session.isMemoryBudgetExceeded(); ++i) {
+                set.add(context.getTestDataGenerationEngine().generate(testDataGenerationConfig, innerType));
+            }
+        } finally {
+            session.exitCollection();
         }
-        return set;
+        return policy.toResult(typeMeta.getType(), set);
     }
 
     @SuppressWarnings("java:S3740")
@@ -88,9 +102,15 @@ public class SetTestDataGenerator extends AbstractParameterizedTestDataGenerator
         }
     }
 
-    private Set<?> createItem(Class<?> type) {
+    private Set<?> createItem(Class<?> type, int itemsNumber, CollectionImplementationPolicy policy) {
         if (type.isAssignableFrom(AbstractSet.class)) {
-            return new LinkedHashSet();
+            return policy.createSet(itemsNumber);
+        }
+        if (HashSet.class.equals(type)) {
+            return new HashSet<>(CollectionImplementationPolicy.getHashCapacity(itemsNumber));
+        }
+        if (LinkedHashSet.class.equals(type)) {
+            return new LinkedHashSet<>(CollectionImplementationPolicy.getHashCapacity(itemsNumber));
         }
         return (Set<?>) InstanceCreationUtil.createItem(type);
     }
@@ -37,7 +37,7 @@ public class BooleanTestDataGenerator extends AbstractNonParameterizedTestDataGe
 
     @Override
     protected Boolean doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
-        return RandomUtil.getBoolean();
+        return RandomUtil.nextBoolean();
     }
 
     @Override
@@ -37,7 +37,7 @@ public class ByteTestDataGenerator extends AbstractNonParameterizedTestDataGener
 
     @Override
     protected Byte doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
-        return RandomUtil.getByte();
+        return (byte) RandomUtil.nextInt(0, Byte.MAX_VALUE);
     }
 
     @Override
@@ -37,7 +37,7 @@ public class CharacterTestDataGenerator extends AbstractNonParameterizedTestData
 
     @Override
     protected Character doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
-        return RandomUtil.getCharacter();
+        return (char) RandomUtil.nextInt(0, Character.MAX_VALUE);
     }
 
     @Override
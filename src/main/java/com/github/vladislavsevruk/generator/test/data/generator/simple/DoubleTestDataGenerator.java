@@ -37,7 +37,7 @@ public class DoubleTestDataGenerator extends AbstractNonParameterizedTestDataGen
 
     @Override
     protected Double doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
-        return RandomUtil.getDouble();
+        return RandomUtil.nextDouble(0, Double.MAX_VALUE);
     }
 
     @Override
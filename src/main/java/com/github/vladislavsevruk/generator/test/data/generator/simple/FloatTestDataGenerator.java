@@ -37,7 +37,7 @@ public class FloatTestDataGenerator extends AbstractNonParameterizedTestDataGene
 
     @Override
     protected Float doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
-        return RandomUtil.getFloat();
+        return (float) RandomUtil.nextDouble(0, Float.MAX_VALUE);
     }
 
     @Override
@@ -37,7 +37,7 @@ public class IntegerTestDataGenerator extends AbstractNonParameterizedTestDataGe
 
     @Override
     protected Integer doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
-        return RandomUtil.getInteger();
+        return RandomUtil.nextInt(0, Integer.MAX_VALUE);
     }
 
     @Override
@@ -37,7 +37,7 @@ public class LongTestDataGenerator extends AbstractNonParameterizedTestDataGener
 
     @Override
     protected Long doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
-        return RandomUtil.getLong();
+        return RandomUtil.nextLong(0, Long.MAX_VALUE);
     }
 
     @Override
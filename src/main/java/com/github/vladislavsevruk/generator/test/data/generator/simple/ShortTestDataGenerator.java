@@ -37,7 +37,7 @@ public class ShortTestDataGenerator extends AbstractNonParameterizedTestDataGene
 
     @Override
     protected Short doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
-        return RandomUtil.getShort();
+        return (short) RandomUtil.nextInt(0, Short.MAX_VALUE);
     }
 
     @Override
@@ -24,21 +24,40 @@
 package com.github.vladislavsevruk.generator.test.data.generator.simple;
 
 import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
 import com.github.vladislavsevruk.generator.test.data.generator.AbstractNonParameterizedTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.util.RandomUtil;
 
 /**
- * Implements <code>TypeTestDataGenerator</code> for String type.
+ * Implements <code>TypeTestDataGenerator</code> for String type. If name of generated value is set at current
+ * generation session it's added to generated string after prefix.
  *
  * @see NonParameterizedTypeDataGenerator
  */
 public class StringTestDataGenerator extends AbstractNonParameterizedTestDataGenerator<String> {
 
+    private static final int RANDOM_SYMBOLS_NUMBER = 16;
+    private static final char VALUE_NAME_SEPARATOR = '-';
+
     @Override
     protected String doGenerate(TestDataGenerationConfig testDataGenerationConfig) {
-        return testDataGenerationConfig.testDataPrefix() + RandomUtil.getString() + testDataGenerationConfig
-                .testDataPostfix();
+        String prefix = testDataGenerationConfig.testDataPrefix();
+        String postfix = testDataGenerationConfig.testDataPostfix();
+        GenerationSession session = GenerationSession.current();
+        String valueName = session == null ? null : session.getValueName();
+        int randomSymbolsStartIndex = valueName == null ? prefix.length() : prefix.length() + valueName.length() + 1;
+        int postfixStartIndex = randomSymbolsStartIndex + RANDOM_SYMBOLS_NUMBER;
+        char[] symbols = new char[postfixStartIndex + postfix.length()];
+        prefix.getChars(0, prefix.length(), symbols, 0);
+        if (valueName != null) {
+            session.markStringDecorated();
+            valueName.getChars(0, valueName.length(), symbols, prefix.length());
+            symbols[randomSymbolsStartIndex - 1] = VALUE_NAME_SEPARATOR;
+        }
+        RandomUtil.fillChars(symbols, randomSymbolsStartIndex, postfixStartIndex);
+        postfix.getChars(0, postfix.length(), symbols, postfixStartIndex);
+        return new String(symbols);
     }
 
     @Override
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.mapping;
+
+import com.github.vladislavsevruk.generator.test.data.exception.GenerationException;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
+import com.github.vladislavsevruk.generator.test.data.metrics.NoOpGenerationMetrics;
+import com.github.vladislavsevruk.resolver.util.PrimitiveWrapperUtil;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Provides accessors for fast invocation of setters. Setters are converted to generated <code>BiConsumer</code>-s
+ * where possible, to bound <code>MethodHandle</code>-s if lambda generation isn't possible and to reflective calls for
+ * members that are inaccessible for method handles lookup.
+ */
+@Log4j2
+public final class SetterAccessorProvider {
+
+    private static final MethodType SETTER_INTERFACE_TYPE = MethodType
+            .methodType(void.class, Object.class, Object.class);
+    // accessors are bound to declaring class so they don't prevent unloading of its class loader
+    private static final ClassValue<Map<Method, BiConsumer<Object, Object>>> SETTER_ACCESSORS = new ClassValue<>() {
+
+        @Override
+        protected Map<Method, BiConsumer<Object, Object>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private SetterAccessorProvider() {
+    }
+
+    /**
+     * Returns cached accessor that invokes received setter with value from second argument on object from first
+     * argument. Exceptions thrown by setter or faced during invocation are re-thrown as unchecked ones.
+     *
+     * @param setter <code>Method</code> with single parameter to create accessor for.
+     * @return <code>BiConsumer</code> that invokes received setter.
+     */
+    public static BiConsumer<Object, Object> getAccessor(Method setter) {
+        return getAccessor(setter, NoOpGenerationMetrics.INSTANCE);
+    }
+
+    /**
+     * Returns cached accessor that invokes received setter with value from second argument on object from first
+     * argument. Exceptions thrown by setter or faced during invocation are re-thrown as unchecked ones. If accessor is
+     * built by this call and falls back to method handle or reflective invocation it's reported to received metrics.
+     *
+     * @param setter            <code>Method</code> with single parameter to create accessor for.
+     * @param generationMetrics <code>GenerationMetrics</code> to report accessor fallbacks to.
+     * @return <code>BiConsumer</code> that invokes received setter.
+     */
+    public static BiConsumer<Object, Object> getAccessor(Method setter, GenerationMetrics generationMetrics) {
+        Map<Method, BiConsumer<Object, Object>> classAccessors = SETTER_ACCESSORS.get(setter.getDeclaringClass());
+        BiConsumer<Object, Object> accessor = classAccessors.get(setter);
+        if (accessor == null) {
+            accessor = createSetterAccessor(setter, generationMetrics);
+            classAccessors.putIfAbsent(setter, accessor);
+        }
+        return accessor;
+    }
+
+    private static BiConsumer<Object, Object> createLambdaAccessor(MethodHandles.Lookup lookup, Method setter,
+            MethodHandle setterHandle) throws Throwable {
+        Class<?> parameterType = PrimitiveWrapperUtil.wrap(setter.getParameterTypes()[0]);
+        CallSite callSite = LambdaMetafactory
+                .metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class), SETTER_INTERFACE_TYPE,
+                        setterHandle, MethodType.methodType(void.class, setter.getDeclaringClass(), parameterType));
+        @SuppressWarnings("unchecked")
+        BiConsumer<Object, Object> accessor = (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+        return accessor;
+    }
+
+    private static BiConsumer<Object, Object> createMethodHandleAccessor(MethodHandle setterHandle) {
+        MethodHandle genericHandle = setterHandle.asType(SETTER_INTERFACE_TYPE);
+        return (object, value) -> {
+            try {
+                genericHandle.invokeExact(object, value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable throwable) {
+                throw new GenerationException(throwable);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> createReflectiveAccessor(Method setter) {
+        return (object, value) -> {
+            try {
+                setter.invoke(object, value);
+            } catch (ReflectiveOperationException roEx) {
+                throw new GenerationException(roEx);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> createSetterAccessor(Method setter,
+            GenerationMetrics generationMetrics) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle setterHandle;
+        try {
+            setterHandle = lookup.unreflect(setter);
+        } catch (IllegalAccessException iaEx) {
+            log.debug(() -> String.format("'%s' is inaccessible for method handles, reflection will be used.",
+                    setter.getName()));
+            generationMetrics.recordReflectionFallback(setter.getDeclaringClass(), setter.getName());
+            return createReflectiveAccessor(setter);
+        }
+        if (isVisible(setter.getDeclaringClass()) && isVisible(setter.getParameterTypes()[0])) {
+            try {
+                return createLambdaAccessor(lookup, setter, setterHandle);
+            } catch (Throwable throwable) {
+                log.debug(() -> String.format("Failed to generate lambda for '%s', method handle will be used.",
+                        setter.getName()));
+            }
+        }
+        generationMetrics.recordReflectionFallback(setter.getDeclaringClass(), setter.getName());
+        return createMethodHandleAccessor(setterHandle);
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        // generated lambdas refer to classes by name so they should be resolvable by class loader of this library
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, SetterAccessorProvider.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException cnfEx) {
+            return false;
+        }
+    }
+}
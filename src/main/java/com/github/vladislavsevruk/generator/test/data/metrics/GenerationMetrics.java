@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.metrics;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Collects statistics of test data generation process.
+ */
+public interface GenerationMetrics {
+
+    /**
+     * Returns <code>true</code> if received statistics are collected, <code>false</code> otherwise. Generation engine
+     * skips time measurements if metrics are disabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Records estimated size of single generated object of received type.
+     *
+     * @param typeMeta      <code>TypeMeta</code> of generated object.
+     * @param estimatedSize <code>long</code> with estimated size of generated object in bytes excluding nested
+     *                      objects.
+     */
+    void recordEstimatedSize(TypeMeta<?> typeMeta, long estimatedSize);
+
+    /**
+     * Records completion of single generation call.
+     *
+     * @param generatedObjectsNumber <code>long</code> with number of objects generated during call including nested
+     *                               ones.
+     */
+    void recordGenerationCall(long generatedObjectsNumber);
+
+    /**
+     * Records generator pick for type that was already resolved by <code>TestDataGeneratorPicker</code> before.
+     */
+    void recordPickerCacheHit();
+
+    /**
+     * Records generator pick for type that wasn't resolved by <code>TestDataGeneratorPicker</code> before.
+     */
+    void recordPickerCacheMiss();
+
+    /**
+     * Records setter that can't be invoked via generated lambda so its accessor falls back to method handle or
+     * reflective invocation. Setter is recorded once when its accessor is built.
+     *
+     * @param declaringClass <code>Class</code> that declares setter.
+     * @param setterName     <code>String</code> with name of setter.
+     */
+    default void recordReflectionFallback(Class<?> declaringClass, String setterName) {
+        // statistics are ignored by default
+    }
+
+    /**
+     * Records generation of single object of received type.
+     *
+     * @param typeMeta      <code>TypeMeta</code> of generated object.
+     * @param durationNanos <code>long</code> with generation duration in nanoseconds including generation of nested
+     *                      objects.
+     */
+    void recordTypeGeneration(TypeMeta<?> typeMeta, long durationNanos);
+}
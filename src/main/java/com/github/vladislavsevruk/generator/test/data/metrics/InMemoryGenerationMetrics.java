@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.metrics;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of <code>GenerationMetrics</code> that accumulates statistics in memory. Numbers of generated objects
+ * per call are grouped into histogram buckets bounded by powers of two. Collected statistics can be dumped as text
+ * report after test run.
+ *
+ * @see GenerationMetrics
+ */
+public final class InMemoryGenerationMetrics implements GenerationMetrics {
+
+    private static final int HISTOGRAM_BUCKETS_NUMBER = Long.SIZE + 1;
+    private final LongAdder generationCallsNumber = new LongAdder();
+    private final AtomicLongArray objectsPerCallHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS_NUMBER);
+    private final LongAdder pickerCacheHits = new LongAdder();
+    private final LongAdder pickerCacheMisses = new LongAdder();
+    private final LongAdder reflectionFallbacksNumber = new LongAdder();
+    private final Map<Class<?>, TypeGenerationStatistics> typeStatistics = new ConcurrentHashMap<>();
+
+    /**
+     * Returns text report with all collected statistics.
+     */
+    public String dump() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Generation calls: %d%n", getGenerationCallsNumber()));
+        report.append(String.format("Picker cache hit rate: %.2f%%%n", getPickerCacheHitRate() * 100));
+        report.append(String.format("Setter reflection fallbacks: %d%n", getReflectionFallbacksNumber()));
+        report.append(String.format("Objects per call:%n"));
+        getObjectsPerCallHistogram().forEach((lowerBound, callsNumber) -> report
+                .append(String.format("  >= %d: %d%n", lowerBound, callsNumber)));
+        report.append(String.format("Types:%n"));
+        typeStatistics.entrySet().stream().sorted(Comparator.comparing(entry -> entry.getKey().getName()))
+                .forEach(entry -> report.append(String
+                        .format("  %s: count=%d, total=%dns, avg=%dns, max=%dns, memory=%dB, avgMemory=%dB%n",
+                                entry.getKey().getName(), entry.getValue().getGeneratedObjectsNumber(),
+                                entry.getValue().getTotalTimeNanos(), entry.getValue().getAverageTimeNanos(),
+                                entry.getValue().getMaxTimeNanos(), entry.getValue().getTotalEstimatedBytes(),
+                                entry.getValue().getAverageEstimatedBytes())));
+        return report.toString();
+    }
+
+    /**
+     * Returns number of completed generation calls.
+     */
+    public long getGenerationCallsNumber() {
+        return generationCallsNumber.sum();
+    }
+
+    /**
+     * Returns histogram of generated objects numbers per call. Keys are lower bounds of histogram buckets and values
+     * are numbers of calls that fit into bucket. Empty buckets are omitted.
+     */
+    public Map<Long, Long> getObjectsPerCallHistogram() {
+        Map<Long, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < HISTOGRAM_BUCKETS_NUMBER; ++i) {
+            long callsNumber = objectsPerCallHistogram.get(i);
+            if (callsNumber != 0L) {
+                histogram.put(i == 0 ? 0L : 1L << (i - 1), callsNumber);
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns ratio of generator picks that were resolved from picker cache or zero if there were no picks.
+     */
+    public double getPickerCacheHitRate() {
+        long hits = pickerCacheHits.sum();
+        long picks = hits + pickerCacheMisses.sum();
+        return picks == 0L ? 0D : (double) hits / picks;
+    }
+
+    /**
+     * Returns number of setters which accessors fall back to method handle or reflective invocation.
+     */
+    public long getReflectionFallbacksNumber() {
+        return reflectionFallbacksNumber.sum();
+    }
+
+    /**
+     * Returns unmodifiable map with generation statistics per generated type.
+     */
+    public Map<Class<?>, TypeGenerationStatistics> getTypeStatistics() {
+        return Collections.unmodifiableMap(typeStatistics);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordEstimatedSize(TypeMeta<?> typeMeta, long estimatedSize) {
+        typeStatistics.computeIfAbsent(typeMeta.getType(), type -> new TypeGenerationStatistics())
+                .recordEstimatedSize(estimatedSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordGenerationCall(long generatedObjectsNumber) {
+        generationCallsNumber.increment();
+        objectsPerCallHistogram.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(generatedObjectsNumber));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordPickerCacheHit() {
+        pickerCacheHits.increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordPickerCacheMiss() {
+        pickerCacheMisses.increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordReflectionFallback(Class<?> declaringClass, String setterName) {
+        reflectionFallbacksNumber.increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordTypeGeneration(TypeMeta<?> typeMeta, long durationNanos) {
+        typeStatistics.computeIfAbsent(typeMeta.getType(), type -> new TypeGenerationStatistics())
+                .record(durationNanos);
+    }
+
+    /**
+     * Resets all collected statistics.
+     */
+    public void reset() {
+        generationCallsNumber.reset();
+        for (int i = 0; i < HISTOGRAM_BUCKETS_NUMBER; ++i) {
+            objectsPerCallHistogram.set(i, 0L);
+        }
+        pickerCacheHits.reset();
+        pickerCacheMisses.reset();
+        reflectionFallbacksNumber.reset();
+        typeStatistics.clear();
+    }
+}
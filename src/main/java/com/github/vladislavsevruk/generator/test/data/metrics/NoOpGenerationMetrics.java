@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.metrics;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Implementation of <code>GenerationMetrics</code> that ignores all statistics.
+ *
+ * @see GenerationMetrics
+ */
+public final class NoOpGenerationMetrics implements GenerationMetrics {
+
+    /**
+     * Shared instance of <code>NoOpGenerationMetrics</code>.
+     */
+    public static final NoOpGenerationMetrics INSTANCE = new NoOpGenerationMetrics();
+
+    private NoOpGenerationMetrics() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordEstimatedSize(TypeMeta<?> typeMeta, long estimatedSize) {
+        // statistics are ignored
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordGenerationCall(long generatedObjectsNumber) {
+        // statistics are ignored
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordPickerCacheHit() {
+        // statistics are ignored
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordPickerCacheMiss() {
+        // statistics are ignored
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordTypeGeneration(TypeMeta<?> typeMeta, long durationNanos) {
+        // statistics are ignored
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contains generation statistics for single type.
+ */
+public final class TypeGenerationStatistics {
+
+    private final LongAdder generatedObjectsNumber = new LongAdder();
+    private final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder estimatedObjectsNumber = new LongAdder();
+    private final LongAdder totalEstimatedBytes = new LongAdder();
+    private final LongAdder totalTimeNanos = new LongAdder();
+
+    TypeGenerationStatistics() {
+    }
+
+    /**
+     * Returns average estimated size of single object in bytes excluding nested objects.
+     */
+    public long getAverageEstimatedBytes() {
+        long objectsNumber = estimatedObjectsNumber.sum();
+        return objectsNumber == 0L ? 0L : getTotalEstimatedBytes() / objectsNumber;
+    }
+
+    /**
+     * Returns average generation time of single object in nanoseconds.
+     */
+    public long getAverageTimeNanos() {
+        long objectsNumber = getGeneratedObjectsNumber();
+        return objectsNumber == 0L ? 0L : getTotalTimeNanos() / objectsNumber;
+    }
+
+    /**
+     * Returns number of generated objects.
+     */
+    public long getGeneratedObjectsNumber() {
+        return generatedObjectsNumber.sum();
+    }
+
+    /**
+     * Returns max generation time of single object in nanoseconds.
+     */
+    public long getMaxTimeNanos() {
+        return maxTimeNanos.get();
+    }
+
+    /**
+     * Returns total estimated size of all objects in bytes excluding nested objects.
+     */
+    public long getTotalEstimatedBytes() {
+        return totalEstimatedBytes.sum();
+    }
+
+    /**
+     * Returns total generation time of all objects in nanoseconds.
+     */
+    public long getTotalTimeNanos() {
+        return totalTimeNanos.sum();
+    }
+
+    void record(long durationNanos) {
+        generatedObjectsNumber.increment();
+        totalTimeNanos.add(durationNanos);
+        maxTimeNanos.accumulate(durationNanos);
+    }
+
+    void recordEstimatedSize(long estimatedSize) {
+        estimatedObjectsNumber.increment();
+        totalEstimatedBytes.add(estimatedSize);
+    }
+}
@@ -24,18 +24,26 @@
 package com.github.vladislavsevruk.generator.test.data.picker;
 
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationTrace;
 import com.github.vladislavsevruk.generator.test.data.generator.DataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.ParameterizedTypeDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.ParameterizedTypeDataGeneratorAdapter;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
+import com.github.vladislavsevruk.generator.test.data.storage.TestDataGeneratorStorage;
+import com.github.vladislavsevruk.generator.test.data.util.TypeMetaKey;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.util.PrimitiveWrapperUtil;
 import lombok.extern.log4j.Log4j2;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Implementation of <code>TestDataGeneratorPicker</code>.
+ * Implementation of <code>TestDataGeneratorPicker</code>. Picked generators are cached by type until new generators
+ * are added to <code>TestDataGeneratorStorage</code>.
  *
  * @see TestDataGeneratorPicker
  */
@@ -43,6 +51,8 @@ import java.util.Objects;
 public final class TestDataGeneratorPickerImpl implements TestDataGeneratorPicker {
 
     private final TestDataGenerationContext conversionContext;
+    private volatile PickedGeneratorsCache pickedGeneratorsCache = new PickedGeneratorsCache(
+            TestDataGeneratorStorage.UNVERSIONED);
 
     public TestDataGeneratorPickerImpl(TestDataGenerationContext conversionContext) {
         this.conversionContext = conversionContext;
@@ -53,30 +63,74 @@ public final class TestDataGeneratorPickerImpl implements TestDataGeneratorPicke
      */
     @Override
     public <T> NonParameterizedTypeDataGenerator<T> pickGenerator(TypeMeta<T> typeMeta) {
-        log.debug(
-                () -> String.format("Trying to find matching generator for '%s' type.", typeMeta.getType().getName()));
+        if (!GenerationTrace.LOGGING_ENABLED) {
+            return doPickGenerator(typeMeta);
+        }
+        log.debug("Trying to find matching generator for '{}' type.", typeMeta.getType().getName());
         NonParameterizedTypeDataGenerator<T> pickedGenerator = doPickGenerator(typeMeta);
-        log.debug(() -> Objects.isNull(pickedGenerator) ? "Didn't find any matching generator."
+        log.debug(Objects.isNull(pickedGenerator) ? "Didn't find any matching generator."
                 : "Found matching generator: " + pickedGenerator.getClass().getName());
         return pickedGenerator;
     }
 
     private <T> NonParameterizedTypeDataGenerator<T> doPickGenerator(TypeMeta<T> typeMeta) {
+        PickedGeneratorsCache cache = getActualCache();
         Class<?> type = PrimitiveWrapperUtil.wrap(typeMeta.getType());
+        GenerationMetrics metrics = conversionContext.getGenerationMetrics();
+        Optional<DataGenerator> generator = cache.generators.get(type);
+        if (generator == null) {
+            metrics.recordPickerCacheMiss();
+            generator = cache.generators.computeIfAbsent(type, this::findGenerator);
+        } else {
+            metrics.recordPickerCacheHit();
+        }
+        return generator.map(value -> getNonParameterizedTypeTestDataGenerator(cache, value, typeMeta)).orElse(null);
+    }
+
+    private Optional<DataGenerator> findGenerator(Class<?> type) {
         for (DataGenerator generator : conversionContext.getTestDataGeneratorStorage().getAll()) {
             if (generator.canGenerate(type)) {
-                return getNonParameterizedTypeTestDataGenerator(generator, typeMeta);
+                return Optional.of(generator);
             }
         }
-        return null;
+        return Optional.empty();
+    }
+
+    private PickedGeneratorsCache getActualCache() {
+        TestDataGeneratorStorage storage = conversionContext.getTestDataGeneratorStorage();
+        PickedGeneratorsCache cache = pickedGeneratorsCache;
+        long storageVersion = storage.getVersion();
+        if (storageVersion == TestDataGeneratorStorage.UNVERSIONED) {
+            // changes of storage content can't be tracked so picked generators are used only once
+            return new PickedGeneratorsCache(storageVersion);
+        }
+        if (cache.storageVersion != storageVersion) {
+            log.debug("Test data generator storage was updated, cache of picked generators will be reset.");
+            cache = new PickedGeneratorsCache(storageVersion);
+            pickedGeneratorsCache = cache;
+        }
+        return cache;
     }
 
     @SuppressWarnings("unchecked")
-    private <T> NonParameterizedTypeDataGenerator<T> getNonParameterizedTypeTestDataGenerator(DataGenerator generator,
-            TypeMeta<T> typeMeta) {
+    private <T> NonParameterizedTypeDataGenerator<T> getNonParameterizedTypeTestDataGenerator(
+            PickedGeneratorsCache cache, DataGenerator generator, TypeMeta<T> typeMeta) {
         if (NonParameterizedTypeDataGenerator.class.isAssignableFrom(generator.getClass())) {
             return (NonParameterizedTypeDataGenerator<T>) generator;
         }
-        return new ParameterizedTypeDataGeneratorAdapter<>((ParameterizedTypeDataGenerator<T>) generator, typeMeta);
+        return (NonParameterizedTypeDataGenerator<T>) cache.adapters.computeIfAbsent(new TypeMetaKey(typeMeta),
+                key -> new ParameterizedTypeDataGeneratorAdapter<>((ParameterizedTypeDataGenerator<T>) generator,
+                        typeMeta));
+    }
+
+    private static final class PickedGeneratorsCache {
+
+        private final Map<TypeMetaKey, NonParameterizedTypeDataGenerator<?>> adapters = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Optional<DataGenerator>> generators = new ConcurrentHashMap<>();
+        private final long storageVersion;
+
+        private PickedGeneratorsCache(long storageVersion) {
+            this.storageVersion = storageVersion;
+        }
     }
 }
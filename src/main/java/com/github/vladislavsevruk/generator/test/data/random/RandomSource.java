@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.random;
+
+/**
+ * Source of pseudorandom values for test data generation.
+ */
+public interface RandomSource {
+
+    /**
+     * Returns pseudorandom <code>boolean</code> value.
+     */
+    boolean nextBoolean();
+
+    /**
+     * Fills received array with pseudorandom bytes.
+     *
+     * @param bytes <code>byte</code> array to fill.
+     */
+    default void nextBytes(byte[] bytes) {
+        int index = 0;
+        while (index < bytes.length) {
+            // every long value provides eight random bytes
+            long value = nextLong();
+            for (int bytesLeft = Math.min(bytes.length - index, Long.BYTES); bytesLeft > 0; --bytesLeft) {
+                bytes[index++] = (byte) value;
+                value >>>= Byte.SIZE;
+            }
+        }
+    }
+
+    /**
+     * Returns pseudorandom <code>double</code> value between zero (inclusive) and one (exclusive).
+     */
+    double nextDouble();
+
+    /**
+     * Returns pseudorandom <code>int</code> value.
+     */
+    int nextInt();
+
+    /**
+     * Returns pseudorandom <code>int</code> value between zero (inclusive) and received bound (exclusive).
+     *
+     * @param bound positive <code>int</code> with upper bound value (exclusive).
+     * @return generated <code>int</code> value.
+     */
+    int nextInt(int bound);
+
+    /**
+     * Returns pseudorandom <code>long</code> value.
+     */
+    long nextLong();
+}
@@ -158,7 +158,7 @@ public interface PostGenerationHookStorage {
      *
      * @param target <code>TypeMeta</code> with type to get hooks for.
      * @param <T>    type of class to get hooks for.
-     * @return <code>List</code> of <code>PostGenerationHook</code> for received type.
+     * @return unmodifiable <code>List</code> of <code>PostGenerationHook</code> for received type.
      */
     <T> List<PostGenerationHook<? super T>> getAll(TypeMeta<T> target);
 }
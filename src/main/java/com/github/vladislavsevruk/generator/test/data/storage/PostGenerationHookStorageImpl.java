@@ -25,19 +25,25 @@ package com.github.vladislavsevruk.generator.test.data.storage;
 
 import com.github.vladislavsevruk.generator.test.data.hook.PostGenerationHook;
 import com.github.vladislavsevruk.generator.test.data.util.ClassUtil;
+import com.github.vladislavsevruk.generator.test.data.util.TypeMetaKey;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import com.github.vladislavsevruk.resolver.util.TypeMetaUtil;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Implementation of <code>PostGenerationHookStorage</code>.
+ * Implementation of <code>PostGenerationHookStorage</code>. Publishes immutable snapshot of hooks on every update so
+ * reading operations don't require any locks. Resolved hook chains are cached per type within snapshot they were
+ * resolved from.
  *
  * @see PostGenerationHook
  * @see PostGenerationHookStorage
@@ -45,8 +51,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @Log4j2
 public final class PostGenerationHookStorageImpl implements PostGenerationHookStorage {
 
-    private List<PostGenerationHookNode<?>> hookNodes = new ArrayList<>();
-    private final ReadWriteLock hooksLock = new ReentrantReadWriteLock();
+    private final List<PostGenerationHookNode<?>> hookNodes = new ArrayList<>();
+    private final Lock hooksLock = new ReentrantLock();
+    private volatile HooksSnapshot snapshot = new HooksSnapshot(Collections.emptyList());
 
     /**
      * {@inheritDoc}
@@ -61,10 +68,13 @@ public final class PostGenerationHookStorageImpl implements PostGenerationHookSt
      */
     @Override
     public <T> void add(TypeMeta<T> target, PostGenerationHook<? super T> postGenerationHook) {
-        hooksLock.writeLock().lock();
-        List<PostGenerationHook<? super T>> hooks = getOrCreateNode(target).hooks;
-        add(target, hooks.size(), postGenerationHook);
-        hooksLock.writeLock().unlock();
+        hooksLock.lock();
+        try {
+            List<PostGenerationHook<? super T>> hooks = getOrCreateNode(target).hooks;
+            add(target, hooks.size(), postGenerationHook);
+        } finally {
+            hooksLock.unlock();
+        }
     }
 
     /**
@@ -91,17 +101,20 @@ public final class PostGenerationHookStorageImpl implements PostGenerationHookSt
     @Override
     public <T> void addAfter(TypeMeta<T> target, PostGenerationHook<? super T> postGenerationHook,
             Class<? extends PostGenerationHook<? super T>> targetHookType) {
-        hooksLock.writeLock().lock();
-        List<PostGenerationHook<? super T>> hooks = getOrCreateNode(target).hooks;
-        int targetTypeIndex = ClassUtil.getIndexOfType(hooks, targetHookType);
-        if (targetTypeIndex == -1) {
-            log.info(
-                    "Target post generation hook type is not present at list, post generation hook will be added to list end.");
-            add(target, hooks.size(), postGenerationHook);
-        } else {
-            add(target, targetTypeIndex + 1, postGenerationHook);
+        hooksLock.lock();
+        try {
+            List<PostGenerationHook<? super T>> hooks = getOrCreateNode(target).hooks;
+            int targetTypeIndex = ClassUtil.getIndexOfType(hooks, targetHookType);
+            if (targetTypeIndex == -1) {
+                log.info(
+                        "Target post generation hook type is not present at list, post generation hook will be added to list end.");
+                add(target, hooks.size(), postGenerationHook);
+            } else {
+                add(target, targetTypeIndex + 1, postGenerationHook);
+            }
+        } finally {
+            hooksLock.unlock();
         }
-        hooksLock.writeLock().unlock();
     }
 
     /**
@@ -129,17 +142,20 @@ public final class PostGenerationHookStorageImpl implements PostGenerationHookSt
     @Override
     public <T> void addBefore(TypeMeta<T> target, PostGenerationHook<? super T> postGenerationHook,
             Class<? extends PostGenerationHook<? super T>> targetHookType) {
-        hooksLock.writeLock().lock();
-        List<PostGenerationHook<? super T>> hooks = getOrCreateNode(target).hooks;
-        int targetTypeIndex = ClassUtil.getIndexOfType(hooks, targetHookType);
-        if (targetTypeIndex == -1) {
-            log.info(
-                    "Target post generation hook type is not present at list, post generation hook will be added to list end.");
-            add(target, hooks.size(), postGenerationHook);
-        } else {
-            add(target, targetTypeIndex, postGenerationHook);
+        hooksLock.lock();
+        try {
+            List<PostGenerationHook<? super T>> hooks = getOrCreateNode(target).hooks;
+            int targetTypeIndex = ClassUtil.getIndexOfType(hooks, targetHookType);
+            if (targetTypeIndex == -1) {
+                log.info(
+                        "Target post generation hook type is not present at list, post generation hook will be added to list end.");
+                add(target, hooks.size(), postGenerationHook);
+            } else {
+                add(target, targetTypeIndex, postGenerationHook);
+            }
+        } finally {
+            hooksLock.unlock();
         }
-        hooksLock.writeLock().unlock();
     }
 
     /**
@@ -158,15 +174,14 @@ public final class PostGenerationHookStorageImpl implements PostGenerationHookSt
     @SuppressWarnings("unchecked")
     @Override
     public <T> List<PostGenerationHook<? super T>> getAll(TypeMeta<T> typeMeta) {
-        List<PostGenerationHook<? super T>> hooks = new ArrayList<>();
-        hooksLock.readLock().lock();
-        for (PostGenerationHookNode<?> hookNode : hookNodes) {
-            if (TypeMetaUtil.isTypesMatch(hookNode.typeMeta, typeMeta)) {
-                hooks.addAll(((PostGenerationHookNode<? super T>) hookNode).hooks);
-            }
+        // chain is cached at the same snapshot it was resolved from so it cannot outlive storage update
+        HooksSnapshot currentSnapshot = snapshot;
+        TypeMetaKey typeMetaKey = new TypeMetaKey(typeMeta);
+        List<PostGenerationHook<?>> hooks = currentSnapshot.hookChains.get(typeMetaKey);
+        if (hooks == null) {
+            hooks = currentSnapshot.hookChains.computeIfAbsent(typeMetaKey, key -> currentSnapshot.resolve(typeMeta));
         }
-        hooksLock.readLock().unlock();
-        return hooks;
+        return (List<PostGenerationHook<? super T>>) (List<?>) hooks;
     }
 
     private <T> void add(TypeMeta<T> typeMeta, int index, PostGenerationHook<? super T> hook) {
@@ -179,6 +194,7 @@ public final class PostGenerationHookStorageImpl implements PostGenerationHookSt
             return;
         }
         getOrCreateNode(typeMeta).hooks.add(index, hook);
+        snapshot = new HooksSnapshot(hookNodes);
     }
 
     private <T> PostGenerationHookNode<T> addNewNode(TypeMeta<T> typeMeta) {
@@ -228,6 +244,30 @@ public final class PostGenerationHookStorageImpl implements PostGenerationHookSt
         return false;
     }
 
+    private static class HooksSnapshot {
+
+        private final Map<TypeMetaKey, List<PostGenerationHook<?>>> hookChains = new ConcurrentHashMap<>();
+        private final List<PostGenerationHookNode<?>> hookNodes;
+
+        HooksSnapshot(List<PostGenerationHookNode<?>> hookNodes) {
+            List<PostGenerationHookNode<?>> nodesCopy = new ArrayList<>(hookNodes.size());
+            for (PostGenerationHookNode<?> hookNode : hookNodes) {
+                nodesCopy.add(hookNode.copy());
+            }
+            this.hookNodes = nodesCopy;
+        }
+
+        List<PostGenerationHook<?>> resolve(TypeMeta<?> typeMeta) {
+            List<PostGenerationHook<?>> hooks = new ArrayList<>();
+            for (PostGenerationHookNode<?> hookNode : hookNodes) {
+                if (TypeMetaUtil.isTypesMatch(hookNode.typeMeta, typeMeta)) {
+                    hooks.addAll(hookNode.hooks);
+                }
+            }
+            return hooks.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(hooks);
+        }
+    }
+
     private static class PostGenerationHookNode<T> {
 
         private final List<PostGenerationHook<? super T>> hooks = new ArrayList<>();
@@ -236,5 +276,11 @@ public final class PostGenerationHookStorageImpl implements PostGenerationHookSt
         public PostGenerationHookNode(TypeMeta<T> typeMeta) {
             this.typeMeta = typeMeta;
         }
+
+        PostGenerationHookNode<T> copy() {
+            PostGenerationHookNode<T> nodeCopy = new PostGenerationHookNode<>(typeMeta);
+            nodeCopy.hooks.addAll(hooks);
+            return nodeCopy;
+        }
     }
 }
@@ -37,6 +37,11 @@ import java.util.List;
  */
 public interface TestDataGeneratorStorage {
 
+    /**
+     * Version of storage that doesn't track changes of its content.
+     */
+    long UNVERSIONED = -1L;
+
     /**
      * Adds new <code>NonParameterizedTypeTestDataGenerator</code> to list. Generator will not be added provided it is
      * <code>null</code> or list already contains generator of such type.
@@ -94,7 +99,16 @@ public interface TestDataGeneratorStorage {
     void addBefore(ParameterizedTypeDataGenerator<?> customGenerator, Class<? extends DataGenerator> targetType);
 
     /**
-     * Returns list of all <code>DataGenerator</code>-s that are present at storage.
+     * Returns unmodifiable list of all <code>DataGenerator</code>-s that are present at storage.
      */
     List<DataGenerator> getAll();
+
+    /**
+     * Returns version of storage content that is changed every time new generator is added to storage. Can be used
+     * for invalidation of data that depends on storage content. Storages that don't track changes return
+     * <code>UNVERSIONED</code> so data that depends on their content shouldn't be cached.
+     */
+    default long getVersion() {
+        return UNVERSIONED;
+    }
 }
@@ -31,8 +31,18 @@ import com.github.vladislavsevruk.generator.test.data.generator.complex.EnumTest
 import com.github.vladislavsevruk.generator.test.data.generator.complex.MapTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.complex.PojoTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.iterable.ArrayTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.BooleanArrayTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.ByteArrayTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.ByteBufferTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.CharArrayTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.CharBufferTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.DoubleArrayTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.FloatArrayTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.IntArrayTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.iterable.ListTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.LongArrayTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.iterable.SetTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.ShortArrayTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.simple.BooleanTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.simple.ByteTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.generator.simple.CharacterTestDataGenerator;
@@ -46,14 +56,16 @@ import com.github.vladislavsevruk.generator.test.data.util.ClassUtil;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Implementation of <code>TestDataGeneratorStorage</code>.
+ * Implementation of <code>TestDataGeneratorStorage</code>. Publishes immutable snapshot of generators list on every
+ * update so reading operations don't require any locks or allocations. Updates are guarded by
+ * <code>ReentrantLock</code> instead of intrinsic lock to avoid pinning of virtual threads.
  *
  * @see NonParameterizedTypeDataGenerator
  * @see ParameterizedTypeDataGenerator
@@ -62,8 +74,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @Log4j2
 public final class TestDataGeneratorStorageImpl implements TestDataGeneratorStorage {
 
-    private final ReadWriteLock generatorsLock = new ReentrantReadWriteLock();
-    private final List<DataGenerator> generators = new LinkedList<>();
+    private final Lock generatorsLock = new ReentrantLock();
+    private final List<DataGenerator> generators = new ArrayList<>();
+    private volatile GeneratorsSnapshot snapshot;
 
     /**
      * Sets up list of active generators and unmodifiable list of default generators.
@@ -72,6 +85,7 @@ public final class TestDataGeneratorStorageImpl implements TestDataGeneratorStor
      */
     public TestDataGeneratorStorageImpl(TestDataGenerationContext generationContext) {
         addDefaultGenerators(generationContext);
+        snapshot = new GeneratorsSnapshot(generators, 0L);
     }
 
     /**
@@ -79,9 +93,12 @@ public final class TestDataGeneratorStorageImpl implements TestDataGeneratorStor
      */
     @Override
     public void add(NonParameterizedTypeDataGenerator<?> customGenerator) {
-        generatorsLock.writeLock().lock();
-        add((DataGenerator) customGenerator);
-        generatorsLock.writeLock().unlock();
+        generatorsLock.lock();
+        try {
+            add((DataGenerator) customGenerator);
+        } finally {
+            generatorsLock.unlock();
+        }
     }
 
     /**
@@ -89,9 +106,12 @@ public final class TestDataGeneratorStorageImpl implements TestDataGeneratorStor
      */
     @Override
     public void add(ParameterizedTypeDataGenerator<?> customGenerator) {
-        generatorsLock.writeLock().lock();
-        add((DataGenerator) customGenerator);
-        generatorsLock.writeLock().unlock();
+        generatorsLock.lock();
+        try {
+            add((DataGenerator) customGenerator);
+        } finally {
+            generatorsLock.unlock();
+        }
     }
 
     /**
@@ -134,11 +154,15 @@ public final class TestDataGeneratorStorageImpl implements TestDataGeneratorStor
      */
     @Override
     public List<DataGenerator> getAll() {
-        generatorsLock.readLock().lock();
-        List<DataGenerator> generatorsList = generators.isEmpty() ? Collections.emptyList()
-                : new ArrayList<>(generators);
-        generatorsLock.readLock().unlock();
-        return generatorsList;
+        return snapshot.generators;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return snapshot.version;
     }
 
     private void add(DataGenerator customGenerator) {
@@ -155,30 +179,37 @@ public final class TestDataGeneratorStorageImpl implements TestDataGeneratorStor
             return;
         }
         generators.add(index, customGenerator);
+        snapshot = new GeneratorsSnapshot(generators, snapshot.version + 1);
     }
 
     private void addAfter(DataGenerator customGenerator, Class<? extends DataGenerator> targetType) {
-        generatorsLock.writeLock().lock();
-        int targetTypeIndex = ClassUtil.getIndexOfType(generators, targetType);
-        if (targetTypeIndex == -1) {
-            log.info("Target type is not present at list, generator will be added to list end.");
-            add(customGenerator);
-        } else {
-            add(targetTypeIndex + 1, customGenerator);
+        generatorsLock.lock();
+        try {
+            int targetTypeIndex = ClassUtil.getIndexOfType(generators, targetType);
+            if (targetTypeIndex == -1) {
+                log.info("Target type is not present at list, generator will be added to list end.");
+                add(customGenerator);
+            } else {
+                add(targetTypeIndex + 1, customGenerator);
+            }
+        } finally {
+            generatorsLock.unlock();
         }
-        generatorsLock.writeLock().unlock();
     }
 
     private void addBefore(DataGenerator customGenerator, Class<? extends DataGenerator> targetType) {
-        generatorsLock.writeLock().lock();
-        int targetTypeIndex = ClassUtil.getIndexOfType(generators, targetType);
-        if (targetTypeIndex == -1) {
-            log.info("Target type is not present at list, generator will be added to list end.");
-            add(customGenerator);
-        } else {
-            add(targetTypeIndex, customGenerator);
+        generatorsLock.lock();
+        try {
+            int targetTypeIndex = ClassUtil.getIndexOfType(generators, targetType);
+            if (targetTypeIndex == -1) {
+                log.info("Target type is not present at list, generator will be added to list end.");
+                add(customGenerator);
+            } else {
+                add(targetTypeIndex, customGenerator);
+            }
+        } finally {
+            generatorsLock.unlock();
         }
-        generatorsLock.writeLock().unlock();
     }
 
     private void addDefaultGenerators(TestDataGenerationContext generationContext) {
@@ -193,6 +224,9 @@ public final class TestDataGeneratorStorageImpl implements TestDataGeneratorStor
     }
 
     private void addElementSequenceGenerators(TestDataGenerationContext generationContext) {
+        addPrimitiveArrayGenerators();
+        generators.add(new ByteBufferTestDataGenerator());
+        generators.add(new CharBufferTestDataGenerator());
         generators.add(new ArrayTestDataGenerator(generationContext));
         generators.add(new ListTestDataGenerator(generationContext));
         generators.add(new SetTestDataGenerator(generationContext));
@@ -206,4 +240,26 @@ public final class TestDataGeneratorStorageImpl implements TestDataGeneratorStor
         generators.add(new LongTestDataGenerator());
         generators.add(new ShortTestDataGenerator());
     }
+
+    private void addPrimitiveArrayGenerators() {
+        generators.add(new BooleanArrayTestDataGenerator());
+        generators.add(new ByteArrayTestDataGenerator());
+        generators.add(new CharArrayTestDataGenerator());
+        generators.add(new DoubleArrayTestDataGenerator());
+        generators.add(new FloatArrayTestDataGenerator());
+        generators.add(new IntArrayTestDataGenerator());
+        generators.add(new LongArrayTestDataGenerator());
+        generators.add(new ShortArrayTestDataGenerator());
+    }
+
+    private static final class GeneratorsSnapshot {
+
+        private final List<DataGenerator> generators;
+        private final long version;
+
+        private GeneratorsSnapshot(List<DataGenerator> generators, long version) {
+            this.generators = Collections.unmodifiableList(Arrays.asList(generators.toArray(new DataGenerator[0])));
+            this.version = version;
+        }
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.util;
+
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+
+/**
+ * Contains utility methods for picking number of items for generated collections, maps and arrays.
+ */
+public final class CollectionSizeUtil {
+
+    private CollectionSizeUtil() {
+    }
+
+    /**
+     * Returns pseudorandom number of items for collection that is nested into received number of collections. Max
+     * items number is multiplied by collection size decay factor from generation config for every nesting level but
+     * isn't decreased below min items number.
+     *
+     * @param testDataGenerationConfig <code>TestDataGenerationConfig</code> with generation parameters.
+     * @param collectionDepth          <code>int</code> with number of collections, maps or arrays which elements are
+     *                                 being generated.
+     * @return <code>int</code> with number of items for collection.
+     */
+    public static int getItemsNumber(TestDataGenerationConfig testDataGenerationConfig, int collectionDepth) {
+        int minItemsNumber = testDataGenerationConfig.minItemsForCollections();
+        int maxItemsNumber = testDataGenerationConfig.maxItemsForCollections();
+        double decayFactor = testDataGenerationConfig.collectionSizeDecayFactor();
+        if (collectionDepth > 0 && decayFactor < 1) {
+            int decayedMaxItemsNumber = (int) (maxItemsNumber * Math.pow(decayFactor, collectionDepth));
+            maxItemsNumber = Math.max(minItemsNumber, decayedMaxItemsNumber);
+        }
+        return RandomUtil.nextInt(minItemsNumber, maxItemsNumber + 1);
+    }
+}
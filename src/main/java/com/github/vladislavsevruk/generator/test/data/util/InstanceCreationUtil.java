@@ -26,16 +26,37 @@ package com.github.vladislavsevruk.generator.test.data.util;
 import com.github.vladislavsevruk.generator.test.data.exception.InstanceCreationException;
 import lombok.extern.log4j.Log4j2;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
- * Utility methods for instance creation.
+ * Utility methods for instance creation. Constructors are resolved once per class and invoked via cached
+ * <code>MethodHandle</code>-s.
  */
 @Log4j2
 public final class InstanceCreationUtil {
 
+    private static final String FAILED_CREATION_MESSAGE = "Failed to create target model.";
+    private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class);
+    private static final LongAdder INSTANTIATOR_LOOKUPS = new LongAdder();
+    private static final LongAdder INSTANTIATOR_MISSES = new LongAdder();
+    private static final ClassValue<Supplier<Object>> INSTANTIATORS = new ClassValue<Supplier<Object>>() {
+
+        @Override
+        protected Supplier<Object> computeValue(Class<?> type) {
+            INSTANTIATOR_MISSES.increment();
+            return createInstantiator(type);
+        }
+    };
+
     private InstanceCreationUtil() {
     }
 
@@ -49,27 +70,78 @@ public final class InstanceCreationUtil {
      */
     @SuppressWarnings("unchecked")
     public static <T> T createItem(Class<T> clazz) {
+        return (T) getInstantiator(clazz).get();
+    }
+
+    /**
+     * Returns number of instantiator requests that reused cached constructor of target class.
+     *
+     * @return number of instantiator cache hits.
+     */
+    public static long getInstantiatorCacheHits() {
+        return INSTANTIATOR_LOOKUPS.sum() - INSTANTIATOR_MISSES.sum();
+    }
+
+    /**
+     * Returns number of instantiator requests that required constructor resolution for target class.
+     *
+     * @return number of instantiator cache misses.
+     */
+    public static long getInstantiatorCacheMisses() {
+        return INSTANTIATOR_MISSES.sum();
+    }
+
+    /**
+     * Returns cached instantiator of received class. Instantiator is resolved on first request for class.
+     *
+     * @param clazz <code>Class</code> of instances to create.
+     * @return <code>Supplier</code> that creates new instances of received class.
+     */
+    static Supplier<Object> getInstantiator(Class<?> clazz) {
+        INSTANTIATOR_LOOKUPS.increment();
+        return INSTANTIATORS.get(clazz);
+    }
+
+    private static Supplier<Object> createInstantiator(Class<?> clazz) {
+        log.debug(() -> String.format("Resolving constructor for %s instances creation.", clazz.getName()));
+        Optional<Constructor<?>> nonArgsConstructor = getNonArgsConstructor(clazz.getConstructors());
+        if (!nonArgsConstructor.isPresent()) {
+            return failingInstantiator("Target model should have public constructor without arguments.", null);
+        }
+        if (Modifier.isAbstract(clazz.getModifiers())) {
+            return failingInstantiator(FAILED_CREATION_MESSAGE + " Target class is abstract.", null);
+        }
         try {
-            log.debug(() -> String.format("Trying to create %s instance.", clazz.getName()));
-            Object instance = getNonArgsConstructor(clazz.getConstructors()).newInstance();
-            log.debug(() -> String.format("Successfully created %s instance.", clazz.getName()));
-            return (T) instance;
-        } catch (ReflectiveOperationException reOpEx) {
-            String message = "Failed to create target model.";
-            log.error(message, reOpEx);
-            throw new InstanceCreationException(message, reOpEx);
+            MethodHandle constructorHandle = MethodHandles.lookup().unreflectConstructor(nonArgsConstructor.get())
+                    .asType(INSTANTIATOR_TYPE);
+            return () -> newInstance(constructorHandle);
+        } catch (IllegalAccessException iaEx) {
+            return failingInstantiator(FAILED_CREATION_MESSAGE, iaEx);
         }
     }
 
-    private static Constructor<?> getNonArgsConstructor(Constructor<?>[] constructors) {
-        return Arrays.stream(constructors).filter(InstanceCreationUtil::hasNoArgs).findAny().orElseThrow(() -> {
-            String message = "Target model should have public constructor without arguments.";
-            log.error(message);
-            return new InstanceCreationException(message);
-        });
+    private static Supplier<Object> failingInstantiator(String message, Throwable cause) {
+        return () -> {
+            log.error(message, cause);
+            throw new InstanceCreationException(message, cause);
+        };
+    }
+
+    private static Optional<Constructor<?>> getNonArgsConstructor(Constructor<?>[] constructors) {
+        return Arrays.stream(constructors).filter(InstanceCreationUtil::hasNoArgs).findAny();
     }
 
     private static boolean hasNoArgs(Executable executable) {
         return executable.getParameterTypes().length == 0;
     }
+
+    @SuppressWarnings("java:S1181")
+    private static Object newInstance(MethodHandle constructorHandle) {
+        try {
+            return (Object) constructorHandle.invokeExact();
+        } catch (Throwable throwable) {
+            log.error(FAILED_CREATION_MESSAGE, throwable);
+            throw new InstanceCreationException(FAILED_CREATION_MESSAGE, throwable);
+        }
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.util;
+
+import com.github.vladislavsevruk.generator.test.data.config.CollectionImplementationPolicy;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contains utility methods for estimation of memory retained by generated objects. Estimations assume 64-bit JVM with
+ * compressed references and compact strings.
+ */
+public final class MemoryEstimationUtil {
+
+    private static final int ARRAY_HEADER_SIZE = 16;
+    private static final int HASH_ENTRY_SIZE = 32;
+    private static final int LINKED_HASH_ENTRY_SIZE = 40;
+    private static final int OBJECT_ALIGNMENT = 8;
+    private static final int OBJECT_HEADER_SIZE = 12;
+    private static final int REFERENCE_SIZE = 4;
+    private static final ClassValue<Long> SHALLOW_SIZES = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return computeShallowSize(type);
+        }
+    };
+
+    private MemoryEstimationUtil() {
+    }
+
+    /**
+     * Returns estimated size of received object in bytes without objects it refers to. Internal arrays and entries of
+     * strings, collections, maps and buffers are included into their size.
+     *
+     * @param object object to estimate size of.
+     * @return <code>long</code> with estimated size in bytes.
+     */
+    public static long estimateShallowSize(Object object) {
+        if (object == null || object instanceof Enum) {
+            // enum constants are shared so they don't retain memory
+            return 0L;
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            return getArraySize(getComponentSize(type.getComponentType()), Array.getLength(object));
+        }
+        long size = SHALLOW_SIZES.get(type);
+        if (object instanceof String) {
+            return size + getArraySize(Byte.BYTES, ((String) object).length());
+        }
+        if (object instanceof List) {
+            return size + getArraySize(REFERENCE_SIZE, ((List<?>) object).size());
+        }
+        if (object instanceof Collection) {
+            return size + getHashedContainerSize(((Collection<?>) object).size(), object instanceof LinkedHashSet);
+        }
+        if (object instanceof Map) {
+            return size + getHashedContainerSize(((Map<?, ?>) object).size(), object instanceof LinkedHashMap);
+        }
+        if (object instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) object;
+            return size + (buffer.isDirect() ? buffer.capacity() : getArraySize(Byte.BYTES, buffer.capacity()));
+        }
+        if (object instanceof CharBuffer) {
+            return size + getArraySize(Character.BYTES, ((CharBuffer) object).capacity());
+        }
+        return size;
+    }
+
+    private static long align(long size) {
+        return (size + OBJECT_ALIGNMENT - 1) / OBJECT_ALIGNMENT * OBJECT_ALIGNMENT;
+    }
+
+    private static long computeShallowSize(Class<?> type) {
+        long size = OBJECT_HEADER_SIZE;
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += getComponentSize(field.getType());
+                }
+            }
+        }
+        return align(size);
+    }
+
+    private static long getArraySize(int componentSize, int length) {
+        return align(ARRAY_HEADER_SIZE + (long) componentSize * length);
+    }
+
+    private static int getComponentSize(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return REFERENCE_SIZE;
+        }
+        if (boolean.class.equals(type) || byte.class.equals(type)) {
+            return Byte.BYTES;
+        }
+        if (char.class.equals(type) || short.class.equals(type)) {
+            return Short.BYTES;
+        }
+        return long.class.equals(type) || double.class.equals(type) ? Long.BYTES : Integer.BYTES;
+    }
+
+    private static long getHashedContainerSize(int itemsNumber, boolean isLinked) {
+        // hash table capacity is power of two that keeps load factor not greater than default one
+        int tableCapacity = Integer.highestOneBit(CollectionImplementationPolicy.getHashCapacity(itemsNumber) * 2 - 1);
+        long entrySize = isLinked ? LINKED_HASH_ENTRY_SIZE : HASH_ENTRY_SIZE;
+        return getArraySize(REFERENCE_SIZE, tableCapacity) + entrySize * itemsNumber;
+    }
+}
@@ -23,10 +23,16 @@
  */
 package com.github.vladislavsevruk.generator.test.data.util;
 
-import java.util.Random;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
+import com.github.vladislavsevruk.generator.test.data.random.RandomSource;
+import com.github.vladislavsevruk.generator.test.data.random.ThreadLocalRandomSource;
+
+import java.nio.ByteBuffer;
 
 /**
- * Contains utility methods for generation pseudorandom values for basic Java types.
+ * Contains utility methods for generation pseudorandom values for basic Java types. Values are generated using
+ * <code>RandomSource</code> of current <code>GenerationSession</code> or <code>ThreadLocalRandom</code> if there is no
+ * active session.
  */
 public final class RandomUtil {
 
@@ -41,16 +47,159 @@ public final class RandomUtil {
     private static final int UPPER_LETTER_SYMBOLS_UPPER_BOUND = UPPER_Z_SYMBOL_CODE + 1 - UPPER_LETTER_SYMBOLS_GAP;
     private static final int LOWER_LETTER_SYMBOLS_GAP = LOWER_A_SYMBOL_CODE - UPPER_LETTER_SYMBOLS_UPPER_BOUND;
     private static final int LOWER_LETTER_SYMBOLS_UPPER_BOUND = LOWER_Z_SYMBOL_CODE + 1 - LOWER_LETTER_SYMBOLS_GAP;
-    private static final Random RANDOM = new Random();
+    private static final RandomSource DEFAULT_RANDOM_SOURCE = new ThreadLocalRandomSource();
 
     private RandomUtil() {
     }
 
+    /**
+     * Fills received array with pseudorandom <code>boolean</code> values.
+     *
+     * @param values <code>boolean</code> array to fill.
+     */
+    public static void fillBooleans(boolean[] values) {
+        RandomSource randomSource = getRandomSource();
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = randomSource.nextBoolean();
+        }
+    }
+
+    /**
+     * Fills received array with pseudorandom bytes from whole <code>byte</code> values range.
+     *
+     * @param values <code>byte</code> array to fill.
+     */
+    public static void fillBytes(byte[] values) {
+        getRandomSource().nextBytes(values);
+    }
+
+    /**
+     * Fills remaining bytes of received buffer with pseudorandom bytes from whole <code>byte</code> values range.
+     * Buffer position is moved to its limit.
+     *
+     * @param buffer <code>ByteBuffer</code> to fill.
+     */
+    public static void fillBytes(ByteBuffer buffer) {
+        RandomSource randomSource = getRandomSource();
+        while (buffer.remaining() >= Long.BYTES) {
+            buffer.putLong(randomSource.nextLong());
+        }
+        long value = randomSource.nextLong();
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) value);
+            value >>>= Byte.SIZE;
+        }
+    }
+
+    /**
+     * Fills received array with pseudorandom alphanumeric symbols.
+     *
+     * @param symbols <code>char</code> array to fill.
+     */
+    public static void fillChars(char[] symbols) {
+        fillChars(symbols, 0, symbols.length);
+    }
+
+    /**
+     * Fills received range of array with pseudorandom alphanumeric symbols.
+     *
+     * @param symbols   <code>char</code> array to fill.
+     * @param fromIndex <code>int</code> with index of first element to fill (inclusive).
+     * @param toIndex   <code>int</code> with index of last element to fill (exclusive).
+     */
+    public static void fillChars(char[] symbols, int fromIndex, int toIndex) {
+        RandomSource randomSource = getRandomSource();
+        int symbolsRange = LOWER_LETTER_SYMBOLS_UPPER_BOUND - ZERO_SYMBOL_CODE;
+        for (int i = fromIndex; i < toIndex; ++i) {
+            symbols[i] = (char) makeShiftsForLetters(ZERO_SYMBOL_CODE + randomSource.nextInt(symbolsRange));
+        }
+    }
+
+    /**
+     * Fills received array with pseudorandom <code>double</code> values that conform received lower and upper bound
+     * values.
+     *
+     * @param values     <code>double</code> array to fill.
+     * @param lowerBound <code>double</code> with lower bound value (inclusive).
+     * @param upperBound <code>double</code> with upper bound value (exclusive).
+     */
+    public static void fillDoubles(double[] values, double lowerBound, double upperBound) {
+        checkBounds(lowerBound < upperBound);
+        RandomSource randomSource = getRandomSource();
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = nextDouble(randomSource, lowerBound, upperBound);
+        }
+    }
+
+    /**
+     * Fills received array with pseudorandom <code>float</code> values that conform received lower and upper bound
+     * values.
+     *
+     * @param values     <code>float</code> array to fill.
+     * @param lowerBound <code>float</code> with lower bound value (inclusive).
+     * @param upperBound <code>float</code> with upper bound value (exclusive).
+     */
+    public static void fillFloats(float[] values, float lowerBound, float upperBound) {
+        checkBounds(lowerBound < upperBound);
+        RandomSource randomSource = getRandomSource();
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = nextFloat(randomSource, lowerBound, upperBound);
+        }
+    }
+
+    /**
+     * Fills received array with pseudorandom <code>int</code> values that conform received lower and upper bound
+     * values.
+     *
+     * @param values     <code>int</code> array to fill.
+     * @param lowerBound <code>int</code> with lower bound value (inclusive).
+     * @param upperBound <code>int</code> with upper bound value (exclusive).
+     */
+    public static void fillInts(int[] values, int lowerBound, int upperBound) {
+        checkBounds(lowerBound < upperBound);
+        RandomSource randomSource = getRandomSource();
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = nextInt(randomSource, lowerBound, upperBound);
+        }
+    }
+
+    /**
+     * Fills received array with pseudorandom <code>long</code> values that conform received lower and upper bound
+     * values.
+     *
+     * @param values     <code>long</code> array to fill.
+     * @param lowerBound <code>long</code> with lower bound value (inclusive).
+     * @param upperBound <code>long</code> with upper bound value (exclusive).
+     */
+    public static void fillLongs(long[] values, long lowerBound, long upperBound) {
+        checkBounds(lowerBound < upperBound);
+        RandomSource randomSource = getRandomSource();
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = nextLong(randomSource, lowerBound, upperBound);
+        }
+    }
+
+    /**
+     * Fills received array with pseudorandom <code>short</code> values that conform received lower and upper bound
+     * values.
+     *
+     * @param values     <code>short</code> array to fill.
+     * @param lowerBound <code>short</code> with lower bound value (inclusive).
+     * @param upperBound <code>short</code> with upper bound value (exclusive).
+     */
+    public static void fillShorts(short[] values, short lowerBound, short upperBound) {
+        checkBounds(lowerBound < upperBound);
+        RandomSource randomSource = getRandomSource();
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = (short) nextInt(randomSource, lowerBound, upperBound);
+        }
+    }
+
     /**
      * Returns pseudorandom <code>Boolean</code> value.
      */
     public static Boolean getBoolean() {
-        return RANDOM.nextBoolean();
+        return nextBoolean();
     }
 
     /**
@@ -78,7 +227,7 @@ public final class RandomUtil {
      * @return generated <code>Byte</code> value.
      */
     public static Byte getByte(byte lowerBound, byte upperBound) {
-        return getInteger(lowerBound, upperBound).byteValue();
+        return (byte) nextInt(lowerBound, upperBound);
     }
 
     /**
@@ -106,7 +255,7 @@ public final class RandomUtil {
      * @return generated <code>Character</code> value.
      */
     public static Character getCharacter(char lowerBound, char upperBound) {
-        return (char) getInteger(lowerBound, upperBound).intValue();
+        return (char) nextInt(lowerBound, upperBound);
     }
 
     /**
@@ -134,7 +283,7 @@ public final class RandomUtil {
      * @return generated <code>Double</code> value.
      */
     public static Double getDouble(double lowerBound, double upperBound) {
-        return RANDOM.doubles(1, lowerBound, upperBound).findFirst().getAsDouble();
+        return nextDouble(lowerBound, upperBound);
     }
 
     /**
@@ -162,7 +311,8 @@ public final class RandomUtil {
      * @return generated <code>Float</code> value.
      */
     public static Float getFloat(float lowerBound, float upperBound) {
-        return getDouble(lowerBound, upperBound).floatValue();
+        checkBounds(lowerBound < upperBound);
+        return nextFloat(getRandomSource(), lowerBound, upperBound);
     }
 
     /**
@@ -174,7 +324,7 @@ public final class RandomUtil {
      */
     public static <T> int getIndex(T[] items) {
         if (items.length != 0) {
-            return getInteger(items.length);
+            return nextInt(0, items.length);
         }
         throw new IllegalArgumentException("Item array is empty");
     }
@@ -204,7 +354,7 @@ public final class RandomUtil {
      * @return generated <code>Integer</code> value.
      */
     public static Integer getInteger(int lowerBound, int upperBound) {
-        return RANDOM.ints(1, lowerBound, upperBound).findFirst().getAsInt();
+        return nextInt(lowerBound, upperBound);
     }
 
     /**
@@ -243,7 +393,7 @@ public final class RandomUtil {
      * @return generated <code>Long</code> value.
      */
     public static Long getLong(long lowerBound, long upperBound) {
-        return RANDOM.longs(1, lowerBound, upperBound).findFirst().getAsLong();
+        return nextLong(lowerBound, upperBound);
     }
 
     /**
@@ -271,7 +421,7 @@ public final class RandomUtil {
      * @return generated <code>Short</code> value.
      */
     public static Short getShort(short lowerBound, short upperBound) {
-        return getInteger(lowerBound, upperBound).shortValue();
+        return (short) nextInt(lowerBound, upperBound);
     }
 
     /**
@@ -288,10 +438,63 @@ public final class RandomUtil {
      * @return generated <code>String</code> value.
      */
     public static String getString(int numberOfSymbols) {
-        StringBuilder stringBuilder = new StringBuilder();
-        RANDOM.ints(ZERO_SYMBOL_CODE, LOWER_LETTER_SYMBOLS_UPPER_BOUND).limit(numberOfSymbols)
-                .map(RandomUtil::makeShiftsForLetters).forEach(stringBuilder::appendCodePoint);
-        return stringBuilder.toString();
+        char[] symbols = new char[numberOfSymbols];
+        fillChars(symbols);
+        return new String(symbols);
+    }
+
+    /**
+     * Returns pseudorandom <code>boolean</code> value.
+     */
+    public static boolean nextBoolean() {
+        return getRandomSource().nextBoolean();
+    }
+
+    /**
+     * Returns pseudorandom <code>double</code> value that conforms received lower and upper bound values.
+     *
+     * @param lowerBound <code>double</code> with lower bound value (inclusive).
+     * @param upperBound <code>double</code> with upper bound value (exclusive).
+     * @return generated <code>double</code> value.
+     */
+    public static double nextDouble(double lowerBound, double upperBound) {
+        checkBounds(lowerBound < upperBound);
+        return nextDouble(getRandomSource(), lowerBound, upperBound);
+    }
+
+    /**
+     * Returns pseudorandom <code>int</code> value that conforms received lower and upper bound values.
+     *
+     * @param lowerBound <code>int</code> with lower bound value (inclusive).
+     * @param upperBound <code>int</code> with upper bound value (exclusive).
+     * @return generated <code>int</code> value.
+     */
+    public static int nextInt(int lowerBound, int upperBound) {
+        checkBounds(lowerBound < upperBound);
+        return nextInt(getRandomSource(), lowerBound, upperBound);
+    }
+
+    /**
+     * Returns pseudorandom <code>long</code> value that conforms received lower and upper bound values.
+     *
+     * @param lowerBound <code>long</code> with lower bound value (inclusive).
+     * @param upperBound <code>long</code> with upper bound value (exclusive).
+     * @return generated <code>long</code> value.
+     */
+    public static long nextLong(long lowerBound, long upperBound) {
+        checkBounds(lowerBound < upperBound);
+        return nextLong(getRandomSource(), lowerBound, upperBound);
+    }
+
+    private static void checkBounds(boolean isValid) {
+        if (!isValid) {
+            throw new IllegalArgumentException("Upper bound should be greater than lower bound.");
+        }
+    }
+
+    private static RandomSource getRandomSource() {
+        GenerationSession session = GenerationSession.current();
+        return session == null ? DEFAULT_RANDOM_SOURCE : session.getRandomSource();
     }
 
     private static int makeShiftsForLetters(int value) {
@@ -300,4 +503,47 @@ public final class RandomUtil {
         }
         return value >= NUMERIC_SYMBOLS_UPPER_BOUND ? value + UPPER_LETTER_SYMBOLS_GAP : value;
     }
+
+    private static double nextDouble(RandomSource randomSource, double lowerBound, double upperBound) {
+        double value = randomSource.nextDouble() * (upperBound - lowerBound) + lowerBound;
+        // rounding may produce upper bound value
+        return value < upperBound ? value : Math.nextDown(upperBound);
+    }
+
+    private static float nextFloat(RandomSource randomSource, float lowerBound, float upperBound) {
+        float value = (float) nextDouble(randomSource, lowerBound, upperBound);
+        // narrowing to float may round value up to upper bound
+        return value < upperBound ? value : Math.nextDown(upperBound);
+    }
+
+    private static int nextInt(RandomSource randomSource, int lowerBound, int upperBound) {
+        int range = upperBound - lowerBound;
+        if (range > 0) {
+            return lowerBound + randomSource.nextInt(range);
+        }
+        // range overflows int so value is picked from whole int values range until it conforms bounds
+        int value;
+        do {
+            value = randomSource.nextInt();
+        } while (value < lowerBound || value >= upperBound);
+        return value;
+    }
+
+    private static long nextLong(RandomSource randomSource, long lowerBound, long upperBound) {
+        long range = upperBound - lowerBound;
+        long value = randomSource.nextLong();
+        if (range > 0) {
+            // rejects values from incomplete last interval to keep distribution uniform
+            long unsignedValue = value >>> 1;
+            while (unsignedValue + range - 1 - (value = unsignedValue % range) < 0) {
+                unsignedValue = randomSource.nextLong() >>> 1;
+            }
+            return value + lowerBound;
+        }
+        // range overflows long so value is picked from whole long values range until it conforms bounds
+        while (value < lowerBound || value >= upperBound) {
+            value = randomSource.nextLong();
+        }
+        return value;
+    }
 }
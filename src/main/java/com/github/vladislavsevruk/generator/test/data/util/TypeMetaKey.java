@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.util;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.util.TypeMetaUtil;
+
+/**
+ * Wraps <code>TypeMeta</code> to make it usable as a key for hash-based caches. Keys are equal provided that wrapped
+ * types meta represent the same types with the same generic parameters.
+ */
+public final class TypeMetaKey {
+
+    private final int hash;
+    private final TypeMeta<?> typeMeta;
+
+    public TypeMetaKey(TypeMeta<?> typeMeta) {
+        this.typeMeta = typeMeta;
+        this.hash = hash(typeMeta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof TypeMetaKey)) {
+            return false;
+        }
+        TypeMetaKey otherKey = (TypeMetaKey) other;
+        return hash == otherKey.hash && TypeMetaUtil.isSameTypes(typeMeta, otherKey.typeMeta);
+    }
+
+    /**
+     * Returns wrapped <code>TypeMeta</code>.
+     */
+    public TypeMeta<?> getTypeMeta() {
+        return typeMeta;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static int hash(TypeMeta<?> typeMeta) {
+        int result = typeMeta.getType().hashCode();
+        for (TypeMeta<?> genericType : typeMeta.getGenericTypes()) {
+            result = 31 * result + hash(genericType);
+        }
+        return result;
+    }
+}
@@ -23,28 +23,115 @@
  */
 package com.github.vladislavsevruk.generator.test.data;
 
+import com.github.vladislavsevruk.generator.test.data.config.RecursionPolicy;
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
 import com.github.vladislavsevruk.generator.test.data.context.ContextUtil;
 import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationTrace;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationTraceEntry;
+import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.complex.PojoTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.iterable.ListTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.simple.StringTestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.hook.PostGenerationHook;
+import com.github.vladislavsevruk.generator.test.data.storage.PostGenerationHookStorage;
+import com.github.vladislavsevruk.generator.test.data.test.BuilderModel;
 import com.github.vladislavsevruk.generator.test.data.test.DescendantModel;
+import com.github.vladislavsevruk.generator.test.data.test.FactoryModel;
+import com.github.vladislavsevruk.generator.test.data.test.ImmutableModel;
 import com.github.vladislavsevruk.generator.test.data.test.ParameterizedModel;
 import com.github.vladislavsevruk.generator.test.data.test.ParameterizedSuperclassModel;
+import com.github.vladislavsevruk.generator.test.data.test.PayloadModel;
+import com.github.vladislavsevruk.generator.test.data.test.PrimitiveArraysModel;
 import com.github.vladislavsevruk.generator.test.data.test.SimpleModel;
 import com.github.vladislavsevruk.generator.test.data.test.SpecificCollectionsModel;
 import com.github.vladislavsevruk.generator.test.data.test.SupportedTypesModel;
+import com.github.vladislavsevruk.generator.test.data.test.TreeNodeModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 class TestDataGeneratorTest {
 
+    @Test
+    void generateBuilderModelTest() {
+        BuilderModel model = new TestDataGenerator().generate(BuilderModel.class);
+        Assertions.assertNotEquals(0, model.getLongSetField().size());
+        Assertions.assertTrue(model.getStringField().contains("stringField"));
+        Assertions.assertTrue(model.getTextField().contains("textField"));
+    }
+
+    @Test
+    void generateConcurrentlyWithStorageUpdatesTest() throws Exception {
+        TestDataGenerationContext context = ContextUtil.newContext();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(context);
+        PostGenerationHookStorage hookStorage = context.getPostGenerationHookStorage();
+        TypeMeta<SimpleModel> typeMeta = new TypeMeta<>(SimpleModel.class);
+        String hookValue = "hookValue";
+        // every hook has its own class as hooks of the same class are added only once
+        List<PostGenerationHook<SimpleModel>> hooks = Arrays
+                .asList(model -> model.setStringField(hookValue), model -> model.setStringField(hookValue),
+                        model -> model.setStringField(hookValue));
+        Set<Integer> publishedChainSizes = ConcurrentHashMap.newKeySet();
+        Set<Integer> observedChainSizes = ConcurrentHashMap.newKeySet();
+        publishedChainSizes.add(hookStorage.getAll(typeMeta).size());
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        try {
+            List<Callable<List<SimpleModel>>> tasks = new ArrayList<>();
+            for (int i = 0; i < 256; ++i) {
+                tasks.add(() -> testDataGenerator.generateList(SimpleModel.class, 20));
+            }
+            List<Future<?>> chainReads = new ArrayList<>();
+            for (int i = 0; i < 8; ++i) {
+                chainReads.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; ++j) {
+                        List<PostGenerationHook<? super SimpleModel>> chain = hookStorage.getAll(typeMeta);
+                        // snapshot is either previous or next one but never partially built
+                        Assertions.assertEquals(hooks.subList(0, chain.size()), chain);
+                        observedChainSizes.add(chain.size());
+                    }
+                }));
+            }
+            Future<?> storageUpdate = executor.submit(() -> {
+                for (PostGenerationHook<SimpleModel> hook : hooks) {
+                    hookStorage.add(SimpleModel.class, hook);
+                    publishedChainSizes.add(hookStorage.getAll(typeMeta).size());
+                }
+            });
+            for (Future<List<SimpleModel>> result : executor.invokeAll(tasks)) {
+                List<SimpleModel> models = result.get();
+                Assertions.assertEquals(20, models.size());
+                models.forEach(model -> assertCollection(model.getStringListField(), "stringListField"));
+            }
+            storageUpdate.get();
+            for (Future<?> chainRead : chainReads) {
+                chainRead.get();
+            }
+            Assertions.assertTrue(publishedChainSizes.containsAll(observedChainSizes));
+            Assertions.assertEquals(hooks, hookStorage.getAll(typeMeta));
+            Assertions.assertEquals(hookValue, testDataGenerator.generate(SimpleModel.class).getStringField());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void generateDescendantModelTest() {
         DescendantModel model = new TestDataGenerator().generate(DescendantModel.class);
@@ -53,6 +140,250 @@ class TestDataGeneratorTest {
         assertCollection(model.getParameterizedField());
     }
 
+    @Test
+    void generateArrayTest() {
+        SimpleModel[] models = new TestDataGenerator().generateArray(SimpleModel.class, 3);
+        Assertions.assertEquals(3, models.length);
+        for (SimpleModel model : models) {
+            Assertions.assertNotNull(model);
+            Assertions.assertTrue(model.getStringField().startsWith("stringField"));
+            assertCollection(model.getStringListField(), "stringListField");
+        }
+    }
+
+    @Test
+    void generateFactoryModelTest() {
+        FactoryModel model = new TestDataGenerator().generate(FactoryModel.class);
+        Assertions.assertNotEquals(0D, model.getDoubleField());
+        Assertions.assertTrue(model.getStringField().contains("stringField"));
+    }
+
+    @Test
+    void generateImmutableModelTest() {
+        ImmutableModel model = new TestDataGenerator().generate(ImmutableModel.class);
+        Assertions.assertNotNull(model.getIntegerField());
+        Assertions.assertNotEquals(0L, model.getLongField());
+        Assertions.assertNotNull(model.getSimpleModelField().getStringField());
+        Assertions.assertNotEquals(0, model.getStringListField().size());
+        Assertions.assertTrue(model.getStringField().contains("stringField"));
+    }
+
+    @Test
+    void generateImmutableModelWithSeedTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().seed(1L).build();
+        Assertions.assertEquals(new TestDataGenerator(config).generate(ImmutableModel.class),
+                new TestDataGenerator(config).generate(ImmutableModel.class));
+    }
+
+    @Test
+    void generateIntoTest() {
+        List<List<String>> generatedItems = new ArrayList<>();
+        new TestDataGenerator().generateInto(new TypeProvider<List<String>>() {}, 4, generatedItems::add);
+        Assertions.assertEquals(4, generatedItems.size());
+        generatedItems.forEach(this::assertCollection);
+    }
+
+    @Test
+    void generateListTest() {
+        TestDataGenerationContext context = ContextUtil.newContext();
+        String hookValue = "hookValue";
+        context.getPostGenerationHookStorage().add(SimpleModel.class, model -> model.setStringField(hookValue));
+        List<SimpleModel> models = new TestDataGenerator(context).generateList(SimpleModel.class, 5);
+        Assertions.assertEquals(5, models.size());
+        for (SimpleModel model : models) {
+            Assertions.assertEquals(hookValue, model.getStringField());
+            assertCollection(model.getStringListField(), "stringListField");
+        }
+    }
+
+    @Test
+    void generateListInParallelTest() {
+        List<List<String>> models = new TestDataGenerator()
+                .generateListInParallel(new TypeProvider<List<String>>() {}, 50);
+        Assertions.assertEquals(50, models.size());
+        models.forEach(this::assertCollection);
+    }
+
+    @Test
+    void generateListInParallelWithExceptionTest() {
+        TestDataGenerationContext context = ContextUtil.newContext();
+        context.getPostGenerationHookStorage().add(SimpleModel.class, model -> {
+            throw new IllegalStateException();
+        });
+        TestDataGenerator testDataGenerator = new TestDataGenerator(context);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> testDataGenerator.generateListInParallel(SimpleModel.class, 10));
+    }
+
+    @Test
+    void generateListInParallelWithReferencePoolAndSeedTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().referencePoolSize(SimpleModel.class, 2)
+                .seed(1L).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<SupportedTypesModel> models = testDataGenerator
+                    .generateListInParallel(SupportedTypesModel.class, 50, executor);
+            Assertions.assertEquals(testDataGenerator.generateList(SupportedTypesModel.class, 50), models);
+            Assertions.assertEquals(models, testDataGenerator.stream(SupportedTypesModel.class).parallel().limit(50)
+                    .collect(Collectors.toList()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void generateListInParallelWithSeedTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().seed(1L).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<SupportedTypesModel> models = testDataGenerator
+                    .generateListInParallel(SupportedTypesModel.class, 50, executor);
+            Assertions.assertEquals(testDataGenerator.generateList(SupportedTypesModel.class, 50), models);
+            Assertions.assertEquals(models, testDataGenerator.generateListInParallel(SupportedTypesModel.class, 50));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void generateListWithNegativeItemsNumberTest() {
+        TestDataGenerator testDataGenerator = new TestDataGenerator();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> testDataGenerator.generateList(SimpleModel.class, -1));
+    }
+
+    @Test
+    void generateListsWithReferencePoolTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().referencePoolSize(SimpleModel.class, 1)
+                .build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        List<SupportedTypesModel> firstModels = testDataGenerator.generateList(SupportedTypesModel.class, 2);
+        List<SupportedTypesModel> secondModels = testDataGenerator.generateList(SupportedTypesModel.class, 2);
+        // pool is shared by items of single call only
+        Assertions.assertSame(firstModels.get(0).getSimpleModelField(), firstModels.get(1).getSimpleModelField());
+        Assertions.assertSame(secondModels.get(0).getSimpleModelField(), secondModels.get(1).getSimpleModelField());
+        Assertions.assertNotSame(firstModels.get(0).getSimpleModelField(), secondModels.get(0).getSimpleModelField());
+    }
+
+    @Test
+    void generateListWithReferencePoolTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().referencePoolSize(SimpleModel.class, 2)
+                .build();
+        List<SupportedTypesModel> models = new TestDataGenerator(config).generateList(SupportedTypesModel.class, 50);
+        Set<SimpleModel> nestedModels = Collections.newSetFromMap(new IdentityHashMap<>());
+        models.forEach(model -> nestedModels.add(model.getSimpleModelField()));
+        Assertions.assertFalse(nestedModels.contains(null));
+        Assertions.assertTrue(nestedModels.size() <= 2);
+        Set<SupportedTypesModel> topLevelModels = Collections.newSetFromMap(new IdentityHashMap<>());
+        topLevelModels.addAll(models);
+        Assertions.assertEquals(50, topLevelModels.size());
+    }
+
+    @Test
+    void generateListWithSeedTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().seed(1L).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        List<SupportedTypesModel> models = testDataGenerator.generateList(SupportedTypesModel.class, 3);
+        Assertions.assertEquals(models, testDataGenerator.generateList(SupportedTypesModel.class, 3));
+        Assertions.assertEquals(testDataGenerator.generate(SupportedTypesModel.class), models.get(0));
+        Assertions.assertNotEquals(models.get(0), models.get(1));
+        Assertions.assertNotEquals(models.get(1), models.get(2));
+    }
+
+    @Test
+    void generateSameTypeSeveralTimesTest() {
+        TestDataGenerator testDataGenerator = new TestDataGenerator(ContextUtil.newContext());
+        for (int i = 0; i < 3; ++i) {
+            SupportedTypesModel model = testDataGenerator.generate(SupportedTypesModel.class);
+            Assertions.assertNotNull(model);
+            Assertions.assertTrue(model.getStringField().startsWith("stringField"));
+            assertCollection(model.getListField(), "listField");
+            assertMap(model.getMapField(), "mapField");
+        }
+    }
+
+    @Test
+    void generateWithTraceTest() {
+        TestDataGenerator testDataGenerator = new TestDataGenerator(
+                TestDataGenerationConfig.builder().seed(1L).build());
+        GenerationTrace trace = new GenerationTrace();
+        SimpleModel model = testDataGenerator.generate(SimpleModel.class, trace);
+        Assertions.assertEquals(testDataGenerator.generate(SimpleModel.class), model);
+        List<GenerationTraceEntry> entries = trace.getEntries();
+        Assertions.assertEquals(SimpleModel.class, entries.get(0).getTypeMeta().getType());
+        Assertions.assertEquals(PojoTestDataGenerator.class, entries.get(0).getGeneratorType());
+        Assertions.assertEquals(0, entries.get(0).getDepth());
+        long stringEntriesNumber = entries.stream().filter(entry -> entry.getTypeMeta().getType() == String.class)
+                .peek(entry -> Assertions.assertTrue(entry.getDepth() > 0)).count();
+        Assertions.assertEquals(model.getStringListField().size() + 1, stringEntriesNumber);
+        Assertions.assertTrue(trace.toString().startsWith(SimpleModel.class.getName() + " <- PojoTestDataGenerator"));
+    }
+
+    @Test
+    void generateWithTraceAndReferencePoolTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().referencePoolSize(SimpleModel.class, 1)
+                .build();
+        GenerationTrace trace = new GenerationTrace();
+        SupportedTypesModel model = new TestDataGenerator(config).generate(SupportedTypesModel.class, trace);
+        List<GenerationTraceEntry> entries = trace.getEntries();
+        int pooledModelIndex = 0;
+        while (entries.get(pooledModelIndex).getTypeMeta().getType() != SimpleModel.class) {
+            ++pooledModelIndex;
+        }
+        // generation of pooled model is traced as nested one
+        int pooledModelDepth = entries.get(pooledModelIndex).getDepth();
+        long stringEntriesNumber = entries.stream().skip(pooledModelIndex + 1L)
+                .takeWhile(entry -> entry.getDepth() > pooledModelDepth)
+                .filter(entry -> entry.getTypeMeta().getType() == String.class).count();
+        Assertions.assertEquals(model.getSimpleModelField().getStringListField().size() + 1, stringEntriesNumber);
+    }
+
+    @Test
+    void generateWithCustomStringGeneratorTest() {
+        TestDataGenerationContext context = ContextUtil.newContext();
+        context.getTestDataGeneratorStorage()
+                .addBefore(new CustomStringTestDataGenerator(), StringTestDataGenerator.class);
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().testDataPrefix("prefix-").build();
+        SimpleModel model = new TestDataGenerator(context, config).generate(SimpleModel.class);
+        // strings of custom generators are decorated with field name as well as strings of built-in generator
+        Assertions.assertEquals("prefix-stringField-custom", model.getStringField());
+        Assertions.assertFalse(model.getStringListField().isEmpty());
+        model.getStringListField().forEach(item -> Assertions.assertEquals("prefix-stringListField-custom", item));
+    }
+
+    @Test
+    void generateWithCustomUnmodifiableListGeneratorTest() {
+        TestDataGenerationContext context = ContextUtil.newContext();
+        context.getTestDataGeneratorStorage()
+                .addBefore(new CustomUnmodifiableListTestDataGenerator(), ListTestDataGenerator.class);
+        SimpleModel model = new TestDataGenerator(context).generate(SimpleModel.class);
+        // containers of custom generators are kept as is
+        Assertions.assertSame(CustomUnmodifiableListTestDataGenerator.ITEMS, model.getStringListField());
+        Assertions.assertEquals(Collections.singletonList("custom"), model.getStringListField());
+    }
+
+    @Test
+    void postGenerationHookForPooledModelTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().referencePoolSize(SimpleModel.class, 2)
+                .build();
+        TestDataGenerationContext context = ContextUtil.newContext();
+        String hookValue = "hookValue";
+        List<SimpleModel> processedModels = new ArrayList<>();
+        context.getPostGenerationHookStorage().add(SimpleModel.class, model -> {
+            model.setStringField(hookValue);
+            processedModels.add(model);
+        });
+        List<SupportedTypesModel> models = new TestDataGenerator(context, config)
+                .generateList(SupportedTypesModel.class, 10);
+        Set<SimpleModel> pooledModels = Collections.newSetFromMap(new IdentityHashMap<>());
+        models.forEach(model -> pooledModels.add(model.getSimpleModelField()));
+        pooledModels.forEach(model -> Assertions.assertEquals(hookValue, model.getStringField()));
+        // hooks are applied to pooled model once when it's generated
+        Assertions.assertEquals(pooledModels.size(), processedModels.size());
+    }
+
     @Test
     void postGenerationHookTest() {
         TestDataGenerationContext context = ContextUtil.newContext();
@@ -89,6 +420,30 @@ class TestDataGeneratorTest {
         assertCollection(model.getParameterizedField(), "parameterizedField");
     }
 
+    @Test
+    void generatePayloadModelTest() {
+        int payloadSize = 1 << 20;
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().minPayloadSize(payloadSize)
+                .maxPayloadSize(payloadSize).build();
+        PayloadModel model = new TestDataGenerator(config).generate(PayloadModel.class);
+        Assertions.assertEquals(payloadSize, model.getByteArrayField().length);
+        Assertions.assertEquals(payloadSize, model.getByteBufferField().remaining());
+        Assertions.assertFalse(model.getByteBufferField().isDirect());
+        Assertions.assertEquals(payloadSize, model.getCharBufferField().remaining());
+        Assertions.assertTrue(model.getCharBufferField().chars().allMatch(Character::isLetterOrDigit));
+    }
+
+    @Test
+    void generatePayloadModelWithDirectByteBuffersTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().directByteBuffers(true).minPayloadSize(13)
+                .maxPayloadSize(13).seed(1L).build();
+        PayloadModel model = new TestDataGenerator(config).generate(PayloadModel.class);
+        Assertions.assertTrue(model.getByteBufferField().isDirect());
+        Assertions.assertEquals(0, model.getByteBufferField().position());
+        Assertions.assertEquals(13, model.getByteBufferField().limit());
+        Assertions.assertEquals(model, new TestDataGenerator(config).generate(PayloadModel.class));
+    }
+
     @Test
     void generatePojoModelTest() {
         SupportedTypesModel model = new TestDataGenerator().generate(SupportedTypesModel.class);
@@ -113,6 +468,100 @@ class TestDataGeneratorTest {
         Assertions.assertTrue(model.getStringField().startsWith("stringField"));
     }
 
+    @Test
+    void generatePojoModelWithPrefixAndPostfixTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().testDataPrefix("pre_")
+                .testDataPostfix("_post").build();
+        SupportedTypesModel model = new TestDataGenerator(config).generate(SupportedTypesModel.class);
+        Assertions.assertNotNull(model);
+        Assertions.assertTrue(model.getStringField().matches("pre_stringField-.{16}_post"));
+        Assertions.assertTrue(model.getSimpleModelField().getStringField().matches("pre_stringField-.{16}_post"));
+        Assertions.assertTrue(
+                model.getListField().stream().allMatch(value -> value.matches("pre_listField-.{16}_post")));
+        Assertions.assertTrue(
+                model.getMapField().keySet().stream().allMatch(key -> key.matches("pre_mapField-Key-.{16}_post")));
+        Assertions.assertTrue(model.getMapField().values().stream()
+                .allMatch(value -> value.matches("pre_mapField-Value-.{16}_post")));
+    }
+
+    @Test
+    void generatePrimitiveArraysModelTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().minItemsForCollections(3)
+                .maxItemsForCollections(3).minPayloadSize(3).maxPayloadSize(3).build();
+        PrimitiveArraysModel model = new TestDataGenerator(config).generate(PrimitiveArraysModel.class);
+        Assertions.assertEquals(3, model.getBooleanArrayField().length);
+        Assertions.assertEquals(3, model.getByteArrayField().length);
+        Assertions.assertEquals(3, model.getCharArrayField().length);
+        Assertions.assertEquals(3, model.getDoubleArrayField().length);
+        Assertions.assertEquals(3, model.getFloatArrayField().length);
+        Assertions.assertEquals(3, model.getIntArrayField().length);
+        Assertions.assertEquals(3, model.getLongArrayField().length);
+        Assertions.assertEquals(3, model.getShortArrayField().length);
+        Assertions.assertTrue(Arrays.stream(model.getIntArrayField()).allMatch(value -> value >= 0));
+        Assertions.assertTrue(Arrays.stream(model.getDoubleArrayField()).allMatch(value -> value >= 0));
+    }
+
+    @Test
+    void generatePrimitiveArraysModelWithSeedTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().seed(1L).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        Assertions.assertEquals(testDataGenerator.generate(PrimitiveArraysModel.class),
+                testDataGenerator.generate(PrimitiveArraysModel.class));
+    }
+
+    @Test
+    void generateRecursiveModelTest() {
+        TreeNodeModel model = new TestDataGenerator().generate(TreeNodeModel.class);
+        Assertions.assertNotNull(model.getName());
+        Assertions.assertNull(model.getParent());
+        Assertions.assertNotEquals(0, model.getChildren().size());
+        Assertions.assertTrue(model.getChildren().stream().allMatch(Objects::isNull));
+    }
+
+    @Test
+    void generateRecursiveModelUntilMaxDepthTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder()
+                .recursionPolicy(RecursionPolicy.GENERATE_UNTIL_MAX_DEPTH).maxPojoDepth(3).maxItemsForCollections(2)
+                .build();
+        TreeNodeModel model = new TestDataGenerator(config).generate(TreeNodeModel.class);
+        Assertions.assertNotNull(model.getParent());
+        Assertions.assertNotNull(model.getParent().getParent());
+        Assertions.assertNull(model.getParent().getParent().getParent());
+        Assertions.assertTrue(model.getChildren().stream().allMatch(Objects::nonNull));
+        Assertions.assertTrue(model.getParent().getParent().getChildren().stream().allMatch(Objects::isNull));
+    }
+
+    @Test
+    void generateRecursiveModelWithReferencePoolTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder()
+                .recursionPolicy(RecursionPolicy.GENERATE_UNTIL_MAX_DEPTH).maxPojoDepth(3).maxItemsForCollections(2)
+                .referencePoolSize(TreeNodeModel.class, 1).build();
+        TestDataGenerationContext context = ContextUtil.newContext();
+        List<TreeNodeModel> processedModels = new ArrayList<>();
+        context.getPostGenerationHookStorage().add(TreeNodeModel.class, processedModels::add);
+        TreeNodeModel model = new TestDataGenerator(context, config).generate(TreeNodeModel.class);
+        TreeNodeModel pooledModel = model.getParent();
+        Assertions.assertNotNull(pooledModel);
+        Assertions.assertNotSame(model, pooledModel);
+        Assertions.assertTrue(model.getChildren().stream().allMatch(child -> child == pooledModel));
+        Set<TreeNodeModel> distinctProcessedModels = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinctProcessedModels.addAll(processedModels);
+        Assertions.assertEquals(processedModels.size(), distinctProcessedModels.size());
+    }
+
+    @Test
+    void generateRecursiveModelWithReusedAncestorTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder()
+                .recursionPolicy(RecursionPolicy.REUSE_ANCESTOR).build();
+        TestDataGenerationContext context = ContextUtil.newContext();
+        List<TreeNodeModel> processedModels = new ArrayList<>();
+        context.getPostGenerationHookStorage().add(TreeNodeModel.class, processedModels::add);
+        TreeNodeModel model = new TestDataGenerator(context, config).generate(TreeNodeModel.class);
+        Assertions.assertSame(model, model.getParent());
+        Assertions.assertTrue(model.getChildren().stream().allMatch(child -> child == model));
+        Assertions.assertEquals(Collections.singletonList(model), processedModels);
+    }
+
     @Test
     void generateSpecificCollectionPojoModelTest() {
         SpecificCollectionsModel model = new TestDataGenerator().generate(SpecificCollectionsModel.class);
@@ -125,6 +574,31 @@ class TestDataGeneratorTest {
         assertCollection(model.getLinkedHashSetField(), "linkedHashSetField");
     }
 
+    @Test
+    void parallelStreamWithSeedTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().seed(1L).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        List<SupportedTypesModel> models = testDataGenerator.stream(SupportedTypesModel.class).parallel().limit(20)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(testDataGenerator.generateList(SupportedTypesModel.class, 20), models);
+    }
+
+    @Test
+    void streamTest() {
+        List<List<String>> models = new TestDataGenerator().stream(new TypeProvider<List<String>>() {}).limit(3)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(3, models.size());
+        models.forEach(this::assertCollection);
+    }
+
+    @Test
+    void streamWithSeedTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().seed(1L).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        List<SimpleModel> models = testDataGenerator.stream(SimpleModel.class).limit(5).collect(Collectors.toList());
+        Assertions.assertEquals(testDataGenerator.generateList(SimpleModel.class, 5), models);
+    }
+
     private void assertArray(String[] array, String prefix) {
         Assertions.assertNotNull(array);
         Assertions.assertNotEquals(0, array.length);
@@ -151,4 +625,33 @@ class TestDataGeneratorTest {
         Assertions.assertTrue(map.values().stream().allMatch(Objects::nonNull));
         Assertions.assertTrue(map.values().stream().allMatch(value -> value.startsWith(prefix + "-Value")));
     }
+
+    private static final class CustomStringTestDataGenerator implements NonParameterizedTypeDataGenerator<String> {
+
+        @Override
+        public boolean canGenerate(Class<?> type) {
+            return String.class.equals(type);
+        }
+
+        @Override
+        public String generate(TestDataGenerationConfig testDataGenerationConfig) {
+            return testDataGenerationConfig.testDataPrefix() + "custom";
+        }
+    }
+
+    private static final class CustomUnmodifiableListTestDataGenerator
+            implements NonParameterizedTypeDataGenerator<List<String>> {
+
+        private static final List<String> ITEMS = Collections.unmodifiableList(Arrays.asList("custom"));
+
+        @Override
+        public boolean canGenerate(Class<?> type) {
+            return List.class.equals(type);
+        }
+
+        @Override
+        public List<String> generate(TestDataGenerationConfig testDataGenerationConfig) {
+            return ITEMS;
+        }
+    }
 }
@@ -25,18 +25,96 @@ package com.github.vladislavsevruk.generator.test.data.config;
 
 import com.github.vladislavsevruk.generator.test.data.TestDataGenerator;
 import com.github.vladislavsevruk.generator.test.data.exception.GenerationConfigurationException;
+import com.github.vladislavsevruk.generator.test.data.exception.MemoryBudgetExceededException;
+import com.github.vladislavsevruk.generator.test.data.random.JavaRandomSource;
 import com.github.vladislavsevruk.generator.test.data.test.SimpleModel;
+import com.github.vladislavsevruk.generator.test.data.test.SpecificCollectionsModel;
+import com.github.vladislavsevruk.generator.test.data.test.SupportedTypesModel;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
 class TestDataGenerationConfigTest {
 
     private static final int DEFAULT_MAX_ITEMS_NUMBER = 5;
     private static final int DEFAULT_MIN_ITEMS_NUMBER = 1;
     private static final int MAX_ITEMS_NUMBER = 3;
     private static final int MIN_ITEMS_NUMBER = 4;
+    private static final long SEED = 42L;
     private static final String TEST_VALUE = "test";
 
+    @Test
+    void collectionImplementationPolicyHashedTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder()
+                .collectionImplementationPolicy(CollectionImplementationPolicy.HASHED).build();
+        SupportedTypesModel model = new TestDataGenerator(config).generate(SupportedTypesModel.class);
+        Assertions.assertEquals(ArrayList.class, model.getListField().getClass());
+        Assertions.assertEquals(HashMap.class, model.getMapField().getClass());
+        Assertions.assertEquals(HashSet.class, model.getSetField().getClass());
+    }
+
+    @Test
+    void collectionImplementationPolicyInsertionOrderedTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder()
+                .collectionImplementationPolicy(CollectionImplementationPolicy.INSERTION_ORDERED).build();
+        SupportedTypesModel model = new TestDataGenerator(config).generate(SupportedTypesModel.class);
+        Assertions.assertEquals(ArrayList.class, model.getListField().getClass());
+        Assertions.assertEquals(LinkedHashMap.class, model.getMapField().getClass());
+        Assertions.assertEquals(LinkedHashSet.class, model.getSetField().getClass());
+    }
+
+    @Test
+    void collectionImplementationPolicyUnmodifiableTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder()
+                .collectionImplementationPolicy(CollectionImplementationPolicy.UNMODIFIABLE).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        SupportedTypesModel model = testDataGenerator.generate(SupportedTypesModel.class);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> model.getListField().add(TEST_VALUE));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> model.getMapField().put(TEST_VALUE, TEST_VALUE));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> model.getSetField().add(TEST_VALUE));
+        SpecificCollectionsModel specificCollectionsModel = testDataGenerator.generate(SpecificCollectionsModel.class);
+        Assertions.assertTrue(specificCollectionsModel.getAbstractListField().add(TEST_VALUE));
+        Assertions.assertTrue(specificCollectionsModel.getAbstractSetField().add(TEST_VALUE));
+    }
+
+    @Test
+    void collectionSizeDecayFactorGreaterThanOneTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().collectionSizeDecayFactor(1.5);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void collectionSizeDecayFactorTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().minItemsForCollections(1)
+                .maxItemsForCollections(40).collectionSizeDecayFactor(0.1).build();
+        List<List<String>> lists = new TestDataGenerator(config).generate(new TypeProvider<List<List<String>>>() {});
+        Assertions.assertTrue(lists.stream().allMatch(list -> list.size() <= 4));
+    }
+
+    @Test
+    void collectionSizeDecayFactorZeroTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().collectionSizeDecayFactor(0);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void defaultCollectionImplementationPolicyTest() {
+        SupportedTypesModel model = new TestDataGenerator().generate(SupportedTypesModel.class);
+        Assertions.assertEquals(ArrayList.class, model.getListField().getClass());
+        Assertions.assertEquals(HashMap.class, model.getMapField().getClass());
+        Assertions.assertEquals(LinkedHashSet.class, model.getSetField().getClass());
+    }
+
     @Test
     void defaultConfigTest() {
         SimpleModel model = new TestDataGenerator().generate(SimpleModel.class);
@@ -50,6 +128,22 @@ class TestDataGenerationConfigTest {
         model.getStringListField().forEach(item -> Assertions.assertFalse(item.endsWith(TEST_VALUE)));
     }
 
+    @Test
+    void differentSeedsTest() {
+        TestDataGenerationConfig config1 = TestDataGenerationConfig.builder().seed(SEED).build();
+        TestDataGenerationConfig config2 = TestDataGenerationConfig.builder().seed(SEED + 1).build();
+        SupportedTypesModel model1 = new TestDataGenerator(config1).generate(SupportedTypesModel.class);
+        SupportedTypesModel model2 = new TestDataGenerator(config2).generate(SupportedTypesModel.class);
+        Assertions.assertNotEquals(model1, model2);
+    }
+
+    @Test
+    void maxItemsForCollectionsIntegerMaxValueTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder()
+                .maxItemsForCollections(Integer.MAX_VALUE);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
     @Test
     void maxItemsForCollectionsLessThanMinItemsForCollectionsTest() {
         TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder()
@@ -72,6 +166,86 @@ class TestDataGenerationConfigTest {
         model.getStringListField().forEach(item -> Assertions.assertFalse(item.endsWith(TEST_VALUE)));
     }
 
+    @Test
+    void maxPojoDepthLessThanOneTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().maxPojoDepth(0);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void maxPojoDepthTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().maxPojoDepth(1).build();
+        SupportedTypesModel model = new TestDataGenerator(config).generate(SupportedTypesModel.class);
+        Assertions.assertNotNull(model.getStringField());
+        Assertions.assertNull(model.getSimpleModelField());
+    }
+
+    @Test
+    void maxPayloadSizeIntegerMaxValueTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().maxPayloadSize(Integer.MAX_VALUE);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void maxPayloadSizeLessThanMinPayloadSizeTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().minPayloadSize(MIN_ITEMS_NUMBER)
+                .maxPayloadSize(MAX_ITEMS_NUMBER);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void memoryBudgetAppliedToEveryItemTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().minItemsForCollections(40)
+                .maxItemsForCollections(40).memoryBudget(20_000L).build();
+        List<List<String>> lists = new TestDataGenerator(config)
+                .generateList(new TypeProvider<List<String>>() {}, 100);
+        Assertions.assertEquals(100, lists.size());
+        lists.forEach(list -> Assertions.assertEquals(40, list.size()));
+    }
+
+    @Test
+    void memoryBudgetExceededByPooledModelTest() {
+        // model fits into budget only if memory of pooled nested model isn't counted
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().minItemsForCollections(40)
+                .maxItemsForCollections(40).memoryBudget(20_000L).referencePoolSize(SimpleModel.class, 1).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        Assertions.assertThrows(MemoryBudgetExceededException.class,
+                () -> testDataGenerator.generate(SupportedTypesModel.class));
+    }
+
+    @Test
+    void memoryBudgetExceededFailTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().memoryBudget(100L).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        Assertions.assertThrows(MemoryBudgetExceededException.class,
+                () -> testDataGenerator.generate(SupportedTypesModel.class));
+    }
+
+    @Test
+    void memoryBudgetExceededShrinkCollectionsTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().minItemsForCollections(40)
+                .maxItemsForCollections(40).memoryBudget(500L)
+                .memoryBudgetPolicy(MemoryBudgetPolicy.SHRINK_COLLECTIONS).build();
+        List<String> list = new TestDataGenerator(config).generate(new TypeProvider<List<String>>() {});
+        Assertions.assertFalse(list.isEmpty());
+        Assertions.assertTrue(list.size() < 40);
+    }
+
+    @Test
+    void memoryBudgetNotExceededTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().minItemsForCollections(40)
+                .maxItemsForCollections(40).memoryBudget(1_000_000L)
+                .memoryBudgetPolicy(MemoryBudgetPolicy.SHRINK_COLLECTIONS).build();
+        List<String> list = new TestDataGenerator(config).generate(new TypeProvider<List<String>>() {});
+        Assertions.assertEquals(40, list.size());
+    }
+
+    @Test
+    void memoryBudgetZeroTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().memoryBudget(0L);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
     @Test
     void minItemsForCollectionsAndMaxItemsForCollectionsSameValueTest() {
         TestDataGenerationConfig config = TestDataGenerationConfig.builder().maxItemsForCollections(MAX_ITEMS_NUMBER)
@@ -113,6 +287,45 @@ class TestDataGenerationConfigTest {
         model.getStringListField().forEach(item -> Assertions.assertFalse(item.endsWith(TEST_VALUE)));
     }
 
+    @Test
+    void minPayloadSizeLessThanZeroTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().minPayloadSize(-1);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void nullCollectionImplementationPolicyTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder()
+                .collectionImplementationPolicy(null);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void nullMemoryBudgetPolicyTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().memoryBudgetPolicy(null);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void nullRandomSourceFactoryTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().randomSourceFactory(null);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void nullRandomSourceTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().randomSourceFactory(() -> null).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        Assertions.assertThrows(GenerationConfigurationException.class,
+                () -> testDataGenerator.generate(SimpleModel.class));
+    }
+
+    @Test
+    void nullRecursionPolicyTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().recursionPolicy(null);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
     @Test
     void nullTestDataPostfixTest() {
         TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().testDataPostfix(null);
@@ -125,6 +338,51 @@ class TestDataGenerationConfigTest {
         Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
     }
 
+    @Test
+    void randomSourceFactoryTest() {
+        AtomicInteger createdRandomSources = new AtomicInteger();
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().randomSourceFactory(() -> {
+            createdRandomSources.incrementAndGet();
+            return new JavaRandomSource(new Random());
+        }).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        Assertions.assertNotNull(testDataGenerator.generate(SimpleModel.class).getStringField());
+        Assertions.assertNotNull(testDataGenerator.generate(SimpleModel.class).getStringField());
+        Assertions.assertEquals(2, createdRandomSources.get());
+    }
+
+    @Test
+    void referencePoolSizeLessThanOneTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder()
+                .referencePoolSize(SimpleModel.class, 0);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void referencePoolTypeNullTest() {
+        TestDataGenerationConfigBuilder builder = TestDataGenerationConfig.builder().referencePoolSize(null, 1);
+        Assertions.assertThrows(GenerationConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void sameSeedTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().seed(SEED).build();
+        TestDataGenerator testDataGenerator = new TestDataGenerator(config);
+        SupportedTypesModel model = testDataGenerator.generate(SupportedTypesModel.class);
+        Assertions.assertEquals(model, testDataGenerator.generate(SupportedTypesModel.class));
+        Assertions.assertEquals(model, new TestDataGenerator(config).generate(SupportedTypesModel.class));
+    }
+
+    @Test
+    void seedOverridesRandomSourceFactoryTest() {
+        TestDataGenerationConfig config1 = TestDataGenerationConfig.builder().seed(SEED).build();
+        TestDataGenerationConfig config2 = TestDataGenerationConfig.builder().randomSourceFactory(() -> null)
+                .seed(SEED).build();
+        SupportedTypesModel model1 = new TestDataGenerator(config1).generate(SupportedTypesModel.class);
+        SupportedTypesModel model2 = new TestDataGenerator(config2).generate(SupportedTypesModel.class);
+        Assertions.assertEquals(model1, model2);
+    }
+
     @Test
     void testDataPostfixTest() {
         TestDataGenerationConfig config = TestDataGenerationConfig.builder().testDataPostfix(TEST_VALUE).build();
@@ -29,6 +29,7 @@ public final class ContextUtil {
         return new TestDataGenerationContextImpl(TestDataGenerationModuleFactory.customFieldMappingStorage(),
                 TestDataGenerationModuleFactory.executableTypeResolver(),
                 TestDataGenerationModuleFactory.fieldTypeResolver(),
+                TestDataGenerationModuleFactory.generationMetrics(),
                 TestDataGenerationModuleFactory.postGenerationHookStorage(),
                 TestDataGenerationModuleFactory.setterMapper(),
                 TestDataGenerationModuleFactory.testDataGenerationEngine(),
@@ -41,6 +42,7 @@ public final class ContextUtil {
         TestDataGenerationModuleFactory.replaceCustomFieldMappingStorage(null);
         TestDataGenerationModuleFactory.replaceExecutableTypeResolver(null);
         TestDataGenerationModuleFactory.replaceFieldTypeResolver(null);
+        TestDataGenerationModuleFactory.replaceGenerationMetrics(null);
         TestDataGenerationModuleFactory.replacePostGenerationHookStorage(null);
         TestDataGenerationModuleFactory.replaceSetterMapper(null);
         TestDataGenerationModuleFactory.replaceTestDataGenerationEngine(null);
@@ -29,6 +29,8 @@ import com.github.vladislavsevruk.generator.test.data.mapping.CustomFieldMapping
 import com.github.vladislavsevruk.generator.test.data.mapping.CustomFieldMappingStorageImpl;
 import com.github.vladislavsevruk.generator.test.data.mapping.SetterMapper;
 import com.github.vladislavsevruk.generator.test.data.mapping.SetterMapperImpl;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
+import com.github.vladislavsevruk.generator.test.data.metrics.NoOpGenerationMetrics;
 import com.github.vladislavsevruk.generator.test.data.picker.TestDataGeneratorPicker;
 import com.github.vladislavsevruk.generator.test.data.picker.TestDataGeneratorPickerImpl;
 import com.github.vladislavsevruk.generator.test.data.storage.PostGenerationHookStorage;
@@ -56,6 +58,8 @@ class TestDataGenerationContextImplTest {
     @Mock
     private FieldTypeResolver<TypeMeta<?>> fieldTypeResolver;
     @Mock
+    private GenerationMetrics generationMetrics;
+    @Mock
     private PostGenerationHookStorage postGenerationHookStorage;
     @Mock
     private SetterMapper setterMapper;
@@ -69,13 +73,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void customCustomFieldMappingStorageFactoryMethodReturnsNullTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(context -> null, null,
-                null, null, null, null, null, null);
+                null, null, null, null, null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -90,12 +96,14 @@ class TestDataGenerationContextImplTest {
     @Test
     void customCustomFieldMappingStorageTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(
-                context -> customFieldMappingStorage, null, null, null, null, null, null, null);
+                context -> customFieldMappingStorage, null, null, null, null, null, null, null, null);
         Assertions.assertEquals(customFieldMappingStorage, testDataGenerationContext.getCustomFieldMappingStorage());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -110,13 +118,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void customExecutableTypeResolverFactoryMethodReturnsNullTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, context -> null,
-                null, null, null, null, null, null);
+                null, null, null, null, null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -131,12 +141,14 @@ class TestDataGenerationContextImplTest {
     @Test
     void customExecutableTypeResolverTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null,
-                context -> executableTypeResolver, null, null, null, null, null, null);
+                context -> executableTypeResolver, null, null, null, null, null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(executableTypeResolver, testDataGenerationContext.getExecutableTypeResolver());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -151,13 +163,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void customFieldTypeResolverFactoryMethodReturnsNullTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null,
-                context -> null, null, null, null, null, null);
+                context -> null, null, null, null, null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -172,12 +186,59 @@ class TestDataGenerationContextImplTest {
     @Test
     void customFieldTypeResolverTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null,
-                context -> fieldTypeResolver, null, null, null, null, null);
+                context -> fieldTypeResolver, null, null, null, null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions.assertEquals(fieldTypeResolver, testDataGenerationContext.getFieldTypeResolver());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
+        Assertions.assertEquals(PostGenerationHookStorageImpl.class,
+                testDataGenerationContext.getPostGenerationHookStorage().getClass());
+        Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
+        Assertions.assertEquals(TestDataGenerationEngineImpl.class,
+                testDataGenerationContext.getTestDataGenerationEngine().getClass());
+        Assertions.assertEquals(TestDataGeneratorPickerImpl.class,
+                testDataGenerationContext.getTestDataGeneratorPicker().getClass());
+        Assertions.assertEquals(TestDataGeneratorStorageImpl.class,
+                testDataGenerationContext.getTestDataGeneratorStorage().getClass());
+    }
+
+    @Test
+    void customGenerationMetricsFactoryMethodReturnsNullTest() {
+        TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null,
+                context -> null, null, null, null, null, null);
+        Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
+                testDataGenerationContext.getCustomFieldMappingStorage().getClass());
+        Assertions.assertEquals(ExecutableTypeMetaResolver.class,
+                testDataGenerationContext.getExecutableTypeResolver().getClass());
+        Assertions
+                .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
+        Assertions.assertEquals(PostGenerationHookStorageImpl.class,
+                testDataGenerationContext.getPostGenerationHookStorage().getClass());
+        Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
+        Assertions.assertEquals(TestDataGenerationEngineImpl.class,
+                testDataGenerationContext.getTestDataGenerationEngine().getClass());
+        Assertions.assertEquals(TestDataGeneratorPickerImpl.class,
+                testDataGenerationContext.getTestDataGeneratorPicker().getClass());
+        Assertions.assertEquals(TestDataGeneratorStorageImpl.class,
+                testDataGenerationContext.getTestDataGeneratorStorage().getClass());
+    }
+
+    @Test
+    void customGenerationMetricsTest() {
+        TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null,
+                context -> generationMetrics, null, null, null, null, null);
+        Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
+                testDataGenerationContext.getCustomFieldMappingStorage().getClass());
+        Assertions.assertEquals(ExecutableTypeMetaResolver.class,
+                testDataGenerationContext.getExecutableTypeResolver().getClass());
+        Assertions
+                .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(generationMetrics, testDataGenerationContext.getGenerationMetrics());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -193,13 +254,15 @@ class TestDataGenerationContextImplTest {
     void customModulesFactoryMethodReturnNullTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(context -> null,
                 context -> null, context -> null, context -> null, context -> null, context -> null, context -> null,
-                context -> null);
+                context -> null, context -> null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -215,11 +278,13 @@ class TestDataGenerationContextImplTest {
     void customModulesTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(
                 context -> customFieldMappingStorage, context -> executableTypeResolver, context -> fieldTypeResolver,
-                context -> postGenerationHookStorage, context -> setterMapper, context -> testDataGenerationEngine,
-                context -> testDataGeneratorPicker, context -> testDataGeneratorStorage);
+                context -> generationMetrics, context -> postGenerationHookStorage, context -> setterMapper,
+                context -> testDataGenerationEngine, context -> testDataGeneratorPicker,
+                context -> testDataGeneratorStorage);
         Assertions.assertEquals(customFieldMappingStorage, testDataGenerationContext.getCustomFieldMappingStorage());
         Assertions.assertEquals(executableTypeResolver, testDataGenerationContext.getExecutableTypeResolver());
         Assertions.assertEquals(fieldTypeResolver, testDataGenerationContext.getFieldTypeResolver());
+        Assertions.assertEquals(generationMetrics, testDataGenerationContext.getGenerationMetrics());
         Assertions.assertEquals(postGenerationHookStorage, testDataGenerationContext.getPostGenerationHookStorage());
         Assertions.assertEquals(setterMapper, testDataGenerationContext.getSetterMapper());
         Assertions.assertEquals(testDataGenerationEngine, testDataGenerationContext.getTestDataGenerationEngine());
@@ -229,7 +294,7 @@ class TestDataGenerationContextImplTest {
 
     @Test
     void customPostGenerationHookStorageFactoryMethodReturnsNullTest() {
-        TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null,
+        TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
                 context -> null, null, null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
@@ -237,6 +302,8 @@ class TestDataGenerationContextImplTest {
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -250,7 +317,7 @@ class TestDataGenerationContextImplTest {
 
     @Test
     void customPostGenerationHookStorageFactoryMethodTest() {
-        TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null,
+        TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
                 context -> null, null, null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
@@ -258,6 +325,8 @@ class TestDataGenerationContextImplTest {
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -271,7 +340,7 @@ class TestDataGenerationContextImplTest {
 
     @Test
     void customSetterMapperFactoryMethodReturnsNullTest() {
-        TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null,
+        TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
                 context -> postGenerationHookStorage, null, null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
@@ -279,6 +348,8 @@ class TestDataGenerationContextImplTest {
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(postGenerationHookStorage, testDataGenerationContext.getPostGenerationHookStorage());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
         Assertions.assertEquals(TestDataGenerationEngineImpl.class,
@@ -292,13 +363,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void customSetterMapperTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
-                context -> setterMapper, null, null, null);
+                null, context -> setterMapper, null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(setterMapper, testDataGenerationContext.getSetterMapper());
@@ -313,13 +386,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void customTestDataGenerationEngineFactoryMethodReturnsNullTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
-                null, context -> null, null, null);
+                null, null, context -> null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -334,13 +409,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void customTestDataGenerationEngineTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
-                null, context -> testDataGenerationEngine, null, null);
+                null, null, context -> testDataGenerationEngine, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -354,13 +431,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void customTestDataGeneratorPickerFactoryMethodReturnsNullTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
-                null, null, context -> null, null);
+                null, null, null, context -> null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -375,13 +454,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void customTestDataGeneratorPickerTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
-                null, null, context -> testDataGeneratorPicker, null);
+                null, null, null, context -> testDataGeneratorPicker, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -395,13 +476,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void customTestDataGeneratorStorageFactoryMethodReturnsNullTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
-                null, null, null, context -> null);
+                null, null, null, null, context -> null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -416,13 +499,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void customTestDataGeneratorStorageTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
-                null, null, null, context -> testDataGeneratorStorage);
+                null, null, null, null, context -> testDataGeneratorStorage);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -436,13 +521,15 @@ class TestDataGenerationContextImplTest {
     @Test
     void defaultModulesTest() {
         TestDataGenerationContext testDataGenerationContext = new TestDataGenerationContextImpl(null, null, null, null,
-                null, null, null, null);
+                null, null, null, null, null);
         Assertions.assertEquals(CustomFieldMappingStorageImpl.class,
                 testDataGenerationContext.getCustomFieldMappingStorage().getClass());
         Assertions.assertEquals(ExecutableTypeMetaResolver.class,
                 testDataGenerationContext.getExecutableTypeResolver().getClass());
         Assertions
                 .assertEquals(FieldTypeMetaResolver.class, testDataGenerationContext.getFieldTypeResolver().getClass());
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                testDataGenerationContext.getGenerationMetrics().getClass());
         Assertions.assertEquals(PostGenerationHookStorageImpl.class,
                 testDataGenerationContext.getPostGenerationHookStorage().getClass());
         Assertions.assertEquals(SetterMapperImpl.class, testDataGenerationContext.getSetterMapper().getClass());
@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.generator.test.data.context;
 import com.github.vladislavsevruk.generator.test.data.engine.TestDataGenerationEngine;
 import com.github.vladislavsevruk.generator.test.data.mapping.CustomFieldMappingStorage;
 import com.github.vladislavsevruk.generator.test.data.mapping.SetterMapper;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
 import com.github.vladislavsevruk.generator.test.data.picker.TestDataGeneratorPicker;
 import com.github.vladislavsevruk.generator.test.data.storage.PostGenerationHookStorage;
 import com.github.vladislavsevruk.generator.test.data.storage.TestDataGeneratorStorage;
@@ -51,6 +52,8 @@ class TestDataGenerationContextManagerTest {
     @Mock
     private FieldTypeResolver<TypeMeta<?>> fieldTypeResolver;
     @Mock
+    private GenerationMetrics generationMetrics;
+    @Mock
     private PostGenerationHookStorage postGenerationHookStorage;
     @Mock
     private SetterMapper setterMapper;
@@ -79,6 +82,7 @@ class TestDataGenerationContextManagerTest {
         TestDataGenerationModuleFactory.replaceCustomFieldMappingStorage(context -> customFieldMappingStorage);
         TestDataGenerationModuleFactory.replaceExecutableTypeResolver(context -> executableTypeResolver);
         TestDataGenerationModuleFactory.replaceFieldTypeResolver(context -> fieldTypeResolver);
+        TestDataGenerationModuleFactory.replaceGenerationMetrics(context -> generationMetrics);
         TestDataGenerationModuleFactory.replacePostGenerationHookStorage(context -> postGenerationHookStorage);
         TestDataGenerationModuleFactory.replaceSetterMapper(context -> setterMapper);
         TestDataGenerationModuleFactory.replaceTestDataGenerationEngine(context -> testDataGenerationEngine);
@@ -89,6 +93,7 @@ class TestDataGenerationContextManagerTest {
         Assertions.assertSame(customFieldMappingStorage, testDataGenerationContext2.getCustomFieldMappingStorage());
         Assertions.assertSame(executableTypeResolver, testDataGenerationContext2.getExecutableTypeResolver());
         Assertions.assertSame(fieldTypeResolver, testDataGenerationContext2.getFieldTypeResolver());
+        Assertions.assertSame(generationMetrics, testDataGenerationContext2.getGenerationMetrics());
         Assertions.assertSame(postGenerationHookStorage, testDataGenerationContext2.getPostGenerationHookStorage());
         Assertions.assertSame(setterMapper, testDataGenerationContext2.getSetterMapper());
         Assertions.assertSame(testDataGenerationEngine, testDataGenerationContext2.getTestDataGenerationEngine());
@@ -192,6 +197,32 @@ class TestDataGenerationContextManagerTest {
                 testDataGenerationContext2.getTestDataGeneratorStorage());
     }
 
+    @Test
+    void autoRefreshContextAfterGenerationMetricsUpdatesTest() {
+        TestDataGenerationContextManager.enableContextAutoRefresh();
+        TestDataGenerationContext testDataGenerationContext1 = TestDataGenerationContextManager.getContext();
+        TestDataGenerationModuleFactory.replaceGenerationMetrics(context -> generationMetrics);
+        TestDataGenerationContext testDataGenerationContext2 = TestDataGenerationContextManager.getContext();
+        Assertions.assertNotSame(testDataGenerationContext1, testDataGenerationContext2);
+        Assertions.assertNotSame(testDataGenerationContext1.getCustomFieldMappingStorage(),
+                testDataGenerationContext2.getCustomFieldMappingStorage());
+        Assertions.assertNotSame(testDataGenerationContext1.getExecutableTypeResolver(),
+                testDataGenerationContext2.getExecutableTypeResolver());
+        Assertions.assertNotSame(testDataGenerationContext1.getFieldTypeResolver(),
+                testDataGenerationContext2.getFieldTypeResolver());
+        Assertions.assertSame(generationMetrics, testDataGenerationContext2.getGenerationMetrics());
+        Assertions.assertNotSame(testDataGenerationContext1.getPostGenerationHookStorage(),
+                testDataGenerationContext2.getPostGenerationHookStorage());
+        Assertions.assertNotSame(testDataGenerationContext1.getSetterMapper(),
+                testDataGenerationContext2.getSetterMapper());
+        Assertions.assertNotSame(testDataGenerationContext1.getTestDataGenerationEngine(),
+                testDataGenerationContext2.getTestDataGenerationEngine());
+        Assertions.assertNotSame(testDataGenerationContext1.getTestDataGeneratorPicker(),
+                testDataGenerationContext2.getTestDataGeneratorPicker());
+        Assertions.assertNotSame(testDataGenerationContext1.getTestDataGeneratorStorage(),
+                testDataGenerationContext2.getTestDataGeneratorStorage());
+    }
+
     @Test
     void autoRefreshContextAfterPostGenerationHookStorageUpdatesTest() {
         TestDataGenerationContextManager.enableContextAutoRefresh();
@@ -304,6 +335,7 @@ class TestDataGenerationContextManagerTest {
         TestDataGenerationModuleFactory.replaceCustomFieldMappingStorage(context -> customFieldMappingStorage);
         TestDataGenerationModuleFactory.replaceExecutableTypeResolver(context -> executableTypeResolver);
         TestDataGenerationModuleFactory.replaceFieldTypeResolver(context -> fieldTypeResolver);
+        TestDataGenerationModuleFactory.replaceGenerationMetrics(context -> generationMetrics);
         TestDataGenerationModuleFactory.replacePostGenerationHookStorage(context -> postGenerationHookStorage);
         TestDataGenerationModuleFactory.replaceSetterMapper(context -> setterMapper);
         TestDataGenerationModuleFactory.replaceTestDataGenerationEngine(context -> testDataGenerationEngine);
@@ -316,6 +348,7 @@ class TestDataGenerationContextManagerTest {
         Assertions.assertSame(executableTypeResolver, testDataGenerationContext2.getExecutableTypeResolver());
         Assertions.assertSame(postGenerationHookStorage, testDataGenerationContext2.getPostGenerationHookStorage());
         Assertions.assertSame(fieldTypeResolver, testDataGenerationContext2.getFieldTypeResolver());
+        Assertions.assertSame(generationMetrics, testDataGenerationContext2.getGenerationMetrics());
         Assertions.assertSame(setterMapper, testDataGenerationContext2.getSetterMapper());
         Assertions.assertSame(testDataGenerationEngine, testDataGenerationContext2.getTestDataGenerationEngine());
         Assertions.assertSame(testDataGeneratorPicker, testDataGenerationContext2.getTestDataGeneratorPicker());
@@ -558,6 +591,7 @@ class TestDataGenerationContextManagerTest {
         TestDataGenerationModuleFactory.replaceCustomFieldMappingStorage(context -> customFieldMappingStorage);
         TestDataGenerationModuleFactory.replaceExecutableTypeResolver(context -> executableTypeResolver);
         TestDataGenerationModuleFactory.replaceFieldTypeResolver(context -> fieldTypeResolver);
+        TestDataGenerationModuleFactory.replaceGenerationMetrics(context -> generationMetrics);
         TestDataGenerationModuleFactory.replacePostGenerationHookStorage(context -> postGenerationHookStorage);
         TestDataGenerationModuleFactory.replaceSetterMapper(context -> setterMapper);
         TestDataGenerationModuleFactory.replaceTestDataGenerationEngine(context -> testDataGenerationEngine);
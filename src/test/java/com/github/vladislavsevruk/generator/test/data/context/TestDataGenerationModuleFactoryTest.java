@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.generator.test.data.context;
 import com.github.vladislavsevruk.generator.test.data.engine.TestDataGenerationEngine;
 import com.github.vladislavsevruk.generator.test.data.mapping.CustomFieldMappingStorage;
 import com.github.vladislavsevruk.generator.test.data.mapping.SetterMapper;
+import com.github.vladislavsevruk.generator.test.data.metrics.GenerationMetrics;
 import com.github.vladislavsevruk.generator.test.data.picker.TestDataGeneratorPicker;
 import com.github.vladislavsevruk.generator.test.data.storage.PostGenerationHookStorage;
 import com.github.vladislavsevruk.generator.test.data.storage.TestDataGeneratorStorage;
@@ -54,6 +55,8 @@ class TestDataGenerationModuleFactoryTest {
     @Mock
     private FieldTypeResolver<TypeMeta<?>> fieldTypeResolver;
     @Mock
+    private GenerationMetrics generationMetrics;
+    @Mock
     private PostGenerationHookStorage postGenerationHookStorage;
     @Mock
     private SetterMapper setterMapper;
@@ -107,6 +110,13 @@ class TestDataGenerationModuleFactoryTest {
         Assertions.assertEquals(factoryMethod, TestDataGenerationModuleFactory.fieldTypeResolver());
     }
 
+    @Test
+    void replaceGenerationMetricsTest() {
+        TestDataGenerationModuleFactoryMethod<GenerationMetrics> factoryMethod = context -> generationMetrics;
+        TestDataGenerationModuleFactory.replaceGenerationMetrics(factoryMethod);
+        Assertions.assertEquals(factoryMethod, TestDataGenerationModuleFactory.generationMetrics());
+    }
+
     @Test
     void replacePostGenerationHookStorageTest() {
         TestDataGenerationModuleFactoryMethod<PostGenerationHookStorage> factoryMethod = context -> postGenerationHookStorage;
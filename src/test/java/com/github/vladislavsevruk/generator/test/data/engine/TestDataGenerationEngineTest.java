@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.engine;
+
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class TestDataGenerationEngineTest {
+
+    @Test
+    void defaultBulkGenerationTest() {
+        TestDataGenerationEngine engine = new SingleItemTestDataGenerationEngine();
+        List<String> generatedValues = new ArrayList<>();
+        engine.generate(TestDataGenerationConfig.builder().build(), new TypeMeta<>(String.class), 3,
+                generatedValues::add);
+        Assertions.assertEquals(Arrays.asList("item0", "item1", "item2"), generatedValues);
+    }
+
+    @Test
+    void defaultBulkGenerationWithNegativeItemsNumberTest() {
+        TestDataGenerationEngine engine = new SingleItemTestDataGenerationEngine();
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().build();
+        TypeMeta<String> typeMeta = new TypeMeta<>(String.class);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> engine.generate(config, typeMeta, -1, value -> { }));
+    }
+
+    private static final class SingleItemTestDataGenerationEngine implements TestDataGenerationEngine {
+
+        private int generatedItemsNumber;
+
+        @Override
+        public <T> T generate(TestDataGenerationConfig testDataGenerationConfig, TypeMeta<T> typeMeta) {
+            Assertions.assertNotNull(GenerationSession.current());
+            return typeMeta.getType().cast("item" + generatedItemsNumber++);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.mapping;
+
+import com.github.vladislavsevruk.generator.test.data.exception.GenerationException;
+import com.github.vladislavsevruk.generator.test.data.metrics.InMemoryGenerationMetrics;
+import lombok.Getter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiConsumer;
+
+class SetterAccessorProviderTest {
+
+    @Test
+    void cachedSetterAccessorTest() throws Exception {
+        BiConsumer<Object, Object> accessor1 = SetterAccessorProvider
+                .getAccessor(TestModel.class.getMethod("setStringField", String.class));
+        BiConsumer<Object, Object> accessor2 = SetterAccessorProvider
+                .getAccessor(TestModel.class.getMethod("setStringField", String.class));
+        Assertions.assertSame(accessor1, accessor2);
+    }
+
+    @Test
+    void fluentSetterTest() throws Exception {
+        TestModel model = new TestModel();
+        SetterAccessorProvider.getAccessor(TestModel.class.getMethod("fluentField", Long.class)).accept(model, 2L);
+        Assertions.assertEquals(2L, model.getFluentField());
+    }
+
+    @Test
+    void inaccessibleSetterTest() throws Exception {
+        BiConsumer<Object, Object> accessor = SetterAccessorProvider
+                .getAccessor(TestModel.class.getDeclaredMethod("setPrivateField", String.class));
+        TestModel model = new TestModel();
+        Assertions.assertThrows(GenerationException.class, () -> accessor.accept(model, "value"));
+        Assertions.assertNull(model.getPrivateField());
+    }
+
+    @Test
+    void inaccessibleSetterFallbackMetricsTest() throws Exception {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        SetterAccessorProvider
+                .getAccessor(FallbackTestModel.class.getDeclaredMethod("setPrivateField", String.class), metrics);
+        Assertions.assertEquals(1L, metrics.getReflectionFallbacksNumber());
+        SetterAccessorProvider
+                .getAccessor(FallbackTestModel.class.getDeclaredMethod("setPrivateField", String.class), metrics);
+        Assertions.assertEquals(1L, metrics.getReflectionFallbacksNumber());
+    }
+
+    @Test
+    void lambdaSetterMetricsTest() throws Exception {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        SetterAccessorProvider.getAccessor(FallbackTestModel.class.getMethod("setStringField", String.class), metrics);
+        Assertions.assertEquals(0L, metrics.getReflectionFallbacksNumber());
+    }
+
+    @Test
+    void primitiveSetterTest() throws Exception {
+        TestModel model = new TestModel();
+        SetterAccessorProvider.getAccessor(TestModel.class.getMethod("setIntField", int.class)).accept(model, 5);
+        Assertions.assertEquals(5, model.getIntField());
+    }
+
+    @Test
+    void setterExceptionTest() throws Exception {
+        BiConsumer<Object, Object> accessor = SetterAccessorProvider
+                .getAccessor(TestModel.class.getMethod("setThrowingField", String.class));
+        Assertions.assertThrows(IllegalStateException.class, () -> accessor.accept(new TestModel(), "value"));
+    }
+
+    @Test
+    void superclassSetterTest() throws Exception {
+        DescendantTestModel model = new DescendantTestModel();
+        SetterAccessorProvider.getAccessor(DescendantTestModel.class.getMethod("setStringField", String.class))
+                .accept(model, "value");
+        Assertions.assertEquals("value", model.getStringField());
+    }
+
+    public static class DescendantTestModel extends TestModel {}
+
+    public static class FallbackTestModel {
+
+        public void setStringField(String stringField) {
+            // value isn't stored
+        }
+
+        private void setPrivateField(String privateField) {
+            // value isn't stored
+        }
+    }
+
+    @Getter
+    public static class TestModel {
+
+        private Long fluentField;
+        private int intField;
+        private String privateField;
+        private String stringField;
+
+        public TestModel fluentField(Long fluentField) {
+            this.fluentField = fluentField;
+            return this;
+        }
+
+        public void setIntField(int intField) {
+            this.intField = intField;
+        }
+
+        public void setStringField(String stringField) {
+            this.stringField = stringField;
+        }
+
+        public void setThrowingField(String value) {
+            throw new IllegalStateException(value);
+        }
+
+        private void setPrivateField(String privateField) {
+            this.privateField = privateField;
+        }
+    }
+}
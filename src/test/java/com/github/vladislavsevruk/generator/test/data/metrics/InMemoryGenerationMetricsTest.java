@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.metrics;
+
+import com.github.vladislavsevruk.generator.test.data.TestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.context.ContextUtil;
+import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
+import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContextManager;
+import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationModuleFactory;
+import com.github.vladislavsevruk.generator.test.data.test.SimpleModel;
+import com.github.vladislavsevruk.generator.test.data.test.SupportedTypesModel;
+import com.github.vladislavsevruk.generator.test.data.util.MemoryEstimationUtil;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class InMemoryGenerationMetricsTest {
+
+    @AfterEach
+    void resetGenerationMetrics() {
+        TestDataGenerationModuleFactory.replaceGenerationMetrics(null);
+    }
+
+    @Test
+    void dumpTest() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        metrics.recordTypeGeneration(new TypeMeta<>(String.class), 10L);
+        metrics.recordGenerationCall(1L);
+        String report = metrics.dump();
+        Assertions.assertTrue(report.contains("Generation calls: 1"));
+        Assertions.assertTrue(report.contains("java.lang.String: count=1, total=10ns, avg=10ns, max=10ns"));
+    }
+
+    @Test
+    void estimatedSizeStatisticsTest() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        metrics.recordEstimatedSize(new TypeMeta<>(String.class), 40L);
+        metrics.recordEstimatedSize(new TypeMeta<>(String.class), 60L);
+        TypeGenerationStatistics statistics = metrics.getTypeStatistics().get(String.class);
+        Assertions.assertEquals(100L, statistics.getTotalEstimatedBytes());
+        Assertions.assertEquals(50L, statistics.getAverageEstimatedBytes());
+        Assertions.assertTrue(metrics.dump().contains("memory=100B, avgMemory=50B"));
+    }
+
+    @Test
+    void generationStatisticsTest() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        TestDataGenerationModuleFactory.replaceGenerationMetrics(context -> metrics);
+        TestDataGenerationContext context = ContextUtil.newContext();
+        Assertions.assertSame(metrics, context.getGenerationMetrics());
+        TestDataGenerator testDataGenerator = new TestDataGenerator(context);
+        testDataGenerator.generate(SimpleModel.class);
+        testDataGenerator.generateList(SimpleModel.class, 2);
+        Assertions.assertEquals(3L, metrics.getGenerationCallsNumber());
+        Map<Class<?>, TypeGenerationStatistics> typeStatistics = metrics.getTypeStatistics();
+        Assertions.assertEquals(3L, typeStatistics.get(SimpleModel.class).getGeneratedObjectsNumber());
+        Assertions.assertEquals(3L, typeStatistics.get(List.class).getGeneratedObjectsNumber());
+        Assertions.assertTrue(typeStatistics.get(String.class).getGeneratedObjectsNumber() >= 6L);
+        Assertions.assertTrue(typeStatistics.get(String.class).getTotalEstimatedBytes() > 0L);
+        Assertions.assertEquals(3L,
+                metrics.getObjectsPerCallHistogram().values().stream().mapToLong(Long::longValue).sum());
+        Assertions.assertTrue(metrics.getPickerCacheHitRate() > 0D);
+        Assertions.assertTrue(metrics.getPickerCacheHitRate() < 1D);
+    }
+
+    @Test
+    void noOpGenerationMetricsAreUsedByDefaultTest() {
+        Assertions.assertEquals(NoOpGenerationMetrics.class,
+                TestDataGenerationContextManager.getContext().getGenerationMetrics().getClass());
+    }
+
+    @Test
+    void objectsPerCallHistogramTest() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        metrics.recordGenerationCall(0L);
+        metrics.recordGenerationCall(1L);
+        metrics.recordGenerationCall(2L);
+        metrics.recordGenerationCall(3L);
+        metrics.recordGenerationCall(100L);
+        Map<Long, Long> histogram = metrics.getObjectsPerCallHistogram();
+        Assertions.assertEquals(4, histogram.size());
+        Assertions.assertEquals(1L, histogram.get(0L));
+        Assertions.assertEquals(1L, histogram.get(1L));
+        Assertions.assertEquals(2L, histogram.get(2L));
+        Assertions.assertEquals(1L, histogram.get(64L));
+        Assertions.assertEquals(5L, metrics.getGenerationCallsNumber());
+    }
+
+    @Test
+    void pickerCacheHitRateTest() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        Assertions.assertEquals(0D, metrics.getPickerCacheHitRate());
+        metrics.recordPickerCacheMiss();
+        metrics.recordPickerCacheHit();
+        metrics.recordPickerCacheHit();
+        metrics.recordPickerCacheHit();
+        Assertions.assertEquals(0.75D, metrics.getPickerCacheHitRate());
+    }
+
+    @Test
+    void pooledModelEstimatedSizeTest() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        TestDataGenerationModuleFactory.replaceGenerationMetrics(context -> metrics);
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().referencePoolSize(SimpleModel.class, 1)
+                .build();
+        List<SupportedTypesModel> models = new TestDataGenerator(ContextUtil.newContext(), config)
+                .generateList(SupportedTypesModel.class, 10);
+        // shared model is counted only once
+        Assertions.assertEquals(MemoryEstimationUtil.estimateShallowSize(models.get(0).getSimpleModelField()),
+                metrics.getTypeStatistics().get(SimpleModel.class).getTotalEstimatedBytes());
+    }
+
+    @Test
+    void resetTest() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        metrics.recordGenerationCall(5L);
+        metrics.recordPickerCacheHit();
+        metrics.recordReflectionFallback(String.class, "setValue");
+        metrics.recordTypeGeneration(new TypeMeta<>(String.class), 10L);
+        metrics.reset();
+        Assertions.assertEquals(0L, metrics.getGenerationCallsNumber());
+        Assertions.assertTrue(metrics.getObjectsPerCallHistogram().isEmpty());
+        Assertions.assertEquals(0D, metrics.getPickerCacheHitRate());
+        Assertions.assertEquals(0L, metrics.getReflectionFallbacksNumber());
+        Assertions.assertTrue(metrics.getTypeStatistics().isEmpty());
+    }
+
+    @Test
+    void typeGenerationStatisticsTest() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        metrics.recordTypeGeneration(new TypeMeta<>(String.class), 10L);
+        metrics.recordTypeGeneration(new TypeMeta<>(String.class), 30L);
+        TypeGenerationStatistics statistics = metrics.getTypeStatistics().get(String.class);
+        Assertions.assertEquals(2L, statistics.getGeneratedObjectsNumber());
+        Assertions.assertEquals(40L, statistics.getTotalTimeNanos());
+        Assertions.assertEquals(20L, statistics.getAverageTimeNanos());
+        Assertions.assertEquals(30L, statistics.getMaxTimeNanos());
+    }
+}
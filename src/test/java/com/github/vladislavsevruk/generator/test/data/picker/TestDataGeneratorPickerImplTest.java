@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.picker;
+
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.context.ContextUtil;
+import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
+import com.github.vladislavsevruk.generator.test.data.generator.DataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.NonParameterizedTypeDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.ParameterizedTypeDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.generator.simple.IntegerTestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.metrics.NoOpGenerationMetrics;
+import com.github.vladislavsevruk.generator.test.data.storage.TestDataGeneratorStorage;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class TestDataGeneratorPickerImplTest {
+
+    @Test
+    void pickGeneratorAfterNewGeneratorAddedTest() {
+        TestDataGenerationContext context = ContextUtil.newContext();
+        TestDataGeneratorPicker picker = new TestDataGeneratorPickerImpl(context);
+        TypeMeta<Integer> typeMeta = new TypeMeta<>(Integer.class);
+        Assertions.assertTrue(picker.pickGenerator(typeMeta) instanceof IntegerTestDataGenerator);
+        NonParameterizedTypeDataGenerator<Integer> customGenerator = new CustomIntegerTestDataGenerator();
+        context.getTestDataGeneratorStorage().addBefore(customGenerator, IntegerTestDataGenerator.class);
+        Assertions.assertSame(customGenerator, picker.pickGenerator(typeMeta));
+    }
+
+    @Test
+    void pickGeneratorForPrimitiveTypeTest() {
+        TestDataGeneratorPicker picker = new TestDataGeneratorPickerImpl(ContextUtil.newContext());
+        Assertions.assertTrue(picker.pickGenerator(new TypeMeta<>(int.class)) instanceof IntegerTestDataGenerator);
+    }
+
+    @Test
+    void pickGeneratorFromUnversionedStorageTest() {
+        UnversionedTestDataGeneratorStorage storage = new UnversionedTestDataGeneratorStorage();
+        storage.add(new IntegerTestDataGenerator());
+        TestDataGenerationContext context = Mockito.mock(TestDataGenerationContext.class);
+        Mockito.when(context.getTestDataGeneratorStorage()).thenReturn(storage);
+        Mockito.when(context.getGenerationMetrics()).thenReturn(NoOpGenerationMetrics.INSTANCE);
+        TestDataGeneratorPicker picker = new TestDataGeneratorPickerImpl(context);
+        TypeMeta<Integer> typeMeta = new TypeMeta<>(Integer.class);
+        Assertions.assertTrue(picker.pickGenerator(typeMeta) instanceof IntegerTestDataGenerator);
+        NonParameterizedTypeDataGenerator<Integer> customGenerator = new CustomIntegerTestDataGenerator();
+        storage.generators.add(0, customGenerator);
+        Assertions.assertSame(customGenerator, picker.pickGenerator(typeMeta));
+    }
+
+    @Test
+    void pickParameterizedGeneratorForDifferentTypesTest() {
+        TestDataGeneratorPicker picker = new TestDataGeneratorPickerImpl(ContextUtil.newContext());
+        TypeMeta<List> integerListTypeMeta = new TypeMeta<>(List.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) });
+        TypeMeta<List> stringListTypeMeta = new TypeMeta<>(List.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(String.class) });
+        Assertions.assertNotSame(picker.pickGenerator(integerListTypeMeta), picker.pickGenerator(stringListTypeMeta));
+    }
+
+    @Test
+    void pickParameterizedGeneratorSeveralTimesTest() {
+        TestDataGeneratorPicker picker = new TestDataGeneratorPickerImpl(ContextUtil.newContext());
+        NonParameterizedTypeDataGenerator<List> firstGenerator = picker.pickGenerator(
+                new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) }));
+        NonParameterizedTypeDataGenerator<List> secondGenerator = picker.pickGenerator(
+                new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) }));
+        Assertions.assertNotNull(firstGenerator);
+        Assertions.assertSame(firstGenerator, secondGenerator);
+    }
+
+    private static final class CustomIntegerTestDataGenerator implements NonParameterizedTypeDataGenerator<Integer> {
+
+        @Override
+        public boolean canGenerate(Class<?> type) {
+            return Integer.class.equals(type);
+        }
+
+        @Override
+        public Integer generate(TestDataGenerationConfig testDataGenerationConfig) {
+            return 0;
+        }
+    }
+
+    private static final class UnversionedTestDataGeneratorStorage implements TestDataGeneratorStorage {
+
+        private final List<DataGenerator> generators = new ArrayList<>();
+
+        @Override
+        public void add(NonParameterizedTypeDataGenerator<?> customGenerator) {
+            generators.add(customGenerator);
+        }
+
+        @Override
+        public void add(ParameterizedTypeDataGenerator<?> customGenerator) {
+            generators.add(customGenerator);
+        }
+
+        @Override
+        public void addAfter(NonParameterizedTypeDataGenerator<?> customGenerator,
+                Class<? extends DataGenerator> targetType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addAfter(ParameterizedTypeDataGenerator<?> customGenerator,
+                Class<? extends DataGenerator> targetType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addBefore(NonParameterizedTypeDataGenerator<?> customGenerator,
+                Class<? extends DataGenerator> targetType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addBefore(ParameterizedTypeDataGenerator<?> customGenerator,
+                Class<? extends DataGenerator> targetType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<DataGenerator> getAll() {
+            return Collections.unmodifiableList(new ArrayList<>(generators));
+        }
+    }
+}
@@ -289,6 +289,26 @@ public class PostGenerationHookStorageImplTest {
         Assertions.assertEquals(numberOfHooksBefore, numberOfHooksAfter);
     }
 
+    @Test
+    void cachedPostGenerationHookChainUpdatedAfterAddTest() {
+        PostGenerationHookStorage postGenerationHookStorage = new PostGenerationHookStorageImpl();
+        postGenerationHookStorage.add(Number.class, postGenerationHook1);
+        Assertions.assertEquals(1, postGenerationHookStorage.getAll(DESCENDANT_TEST_TYPE_META).size());
+        postGenerationHookStorage.add(Integer.class, postGenerationHook2);
+        List<PostGenerationHook<? super Integer>> hooks = postGenerationHookStorage.getAll(DESCENDANT_TEST_TYPE_META);
+        Assertions.assertEquals(2, hooks.size());
+        Assertions.assertSame(hooks, postGenerationHookStorage.getAll(new TypeMeta<>(Integer.class)));
+    }
+
+    @Test
+    void emptyPostGenerationHookChainIsSharedTest() {
+        PostGenerationHookStorage postGenerationHookStorage = new PostGenerationHookStorageImpl();
+        postGenerationHookStorage.add(Integer.class, postGenerationHook1);
+        List<PostGenerationHook<? super Number>> hooks = postGenerationHookStorage.getAll(TEST_TYPE_META);
+        Assertions.assertTrue(hooks.isEmpty());
+        Assertions.assertSame(hooks, postGenerationHookStorage.getAll(new TypeMeta<>(String.class)));
+    }
+
     @Test
     void postGenerationHookAtDescendantNotReceivedForParentTest() {
         PostGenerationHookStorage postGenerationHookStorage = new PostGenerationHookStorageImpl();
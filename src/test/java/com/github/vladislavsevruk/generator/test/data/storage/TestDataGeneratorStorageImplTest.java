@@ -527,6 +527,42 @@ class TestDataGeneratorStorageImplTest {
         Assertions.assertEquals(numberOfGeneratorsBefore, numberOfGeneratorsAfter);
     }
 
+    @Test
+    void getAllReturnsSameSnapshotUntilUpdateTest() {
+        TestDataGeneratorStorage dataGeneratorStorage = new TestDataGeneratorStorageImpl(testDataGenerationContext);
+        List<DataGenerator> dataGenerators = dataGeneratorStorage.getAll();
+        Assertions.assertSame(dataGenerators, dataGeneratorStorage.getAll());
+        dataGeneratorStorage.add(nonParameterizedTypeDataGenerator);
+        List<DataGenerator> updatedDataGenerators = dataGeneratorStorage.getAll();
+        Assertions.assertNotSame(dataGenerators, updatedDataGenerators);
+        Assertions.assertEquals(dataGenerators.size() + 1, updatedDataGenerators.size());
+    }
+
+    @Test
+    void getAllReturnsUnmodifiableListTest() {
+        TestDataGeneratorStorage dataGeneratorStorage = new TestDataGeneratorStorageImpl(testDataGenerationContext);
+        List<DataGenerator> dataGenerators = dataGeneratorStorage.getAll();
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> dataGenerators.add(nonParameterizedTypeDataGenerator));
+    }
+
+    @Test
+    void versionIsChangedAfterAddingNewGeneratorTest() {
+        TestDataGeneratorStorage dataGeneratorStorage = new TestDataGeneratorStorageImpl(testDataGenerationContext);
+        long versionBefore = dataGeneratorStorage.getVersion();
+        dataGeneratorStorage.addBefore(parameterizedTypeDataGenerator, null);
+        Assertions.assertNotEquals(versionBefore, dataGeneratorStorage.getVersion());
+    }
+
+    @Test
+    void versionIsNotChangedAfterAddingExistentGeneratorTest() {
+        TestDataGeneratorStorage dataGeneratorStorage = new TestDataGeneratorStorageImpl(testDataGenerationContext);
+        long versionBefore = dataGeneratorStorage.getVersion();
+        dataGeneratorStorage.add(getNonParameterizedTypeDataGenerator(dataGeneratorStorage.getAll()));
+        dataGeneratorStorage.add((NonParameterizedTypeDataGenerator) null);
+        Assertions.assertEquals(versionBefore, dataGeneratorStorage.getVersion());
+    }
+
     private int getIndexOfGenerator(List<DataGenerator> generators, Class<?> generatorClass) {
         for (int i = 0; i < generators.size(); ++i) {
             if (generatorClass.equals(generators.get(i).getClass())) {
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.util;
+
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CollectionSizeUtilTest {
+
+    private static final int ATTEMPTS = 1000;
+
+    @Test
+    void getItemsNumberDecayedBelowMinItemsNumberTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().minItemsForCollections(3)
+                .maxItemsForCollections(40).collectionSizeDecayFactor(0.1).build();
+        for (int i = 0; i < ATTEMPTS; ++i) {
+            Assertions.assertEquals(3, CollectionSizeUtil.getItemsNumber(config, 5));
+        }
+    }
+
+    @Test
+    void getItemsNumberForNestedCollectionTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().maxItemsForCollections(40)
+                .collectionSizeDecayFactor(0.5).build();
+        for (int i = 0; i < ATTEMPTS; ++i) {
+            int itemsNumber = CollectionSizeUtil.getItemsNumber(config, 2);
+            Assertions.assertTrue(itemsNumber >= 1 && itemsNumber <= 10);
+        }
+    }
+
+    @Test
+    void getItemsNumberForTopLevelCollectionTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().minItemsForCollections(40)
+                .maxItemsForCollections(40).collectionSizeDecayFactor(0.5).build();
+        Assertions.assertEquals(40, CollectionSizeUtil.getItemsNumber(config, 0));
+    }
+
+    @Test
+    void getItemsNumberWithoutDecayTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder().minItemsForCollections(40)
+                .maxItemsForCollections(40).build();
+        Assertions.assertEquals(40, CollectionSizeUtil.getItemsNumber(config, 3));
+    }
+}
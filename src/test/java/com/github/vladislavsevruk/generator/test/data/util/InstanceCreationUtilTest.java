@@ -24,6 +24,8 @@
 package com.github.vladislavsevruk.generator.test.data.util;
 
 import com.github.vladislavsevruk.generator.test.data.TestDataGenerator;
+import com.github.vladislavsevruk.generator.test.data.context.ContextUtil;
+import com.github.vladislavsevruk.generator.test.data.context.TestDataGenerationContext;
 import com.github.vladislavsevruk.generator.test.data.exception.InstanceCreationException;
 import lombok.Data;
 import lombok.Getter;
@@ -31,8 +33,50 @@ import lombok.Setter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.function.Supplier;
+
 class InstanceCreationUtilTest {
 
+    @Test
+    void abstractModelTest() {
+        Assertions.assertThrows(InstanceCreationException.class,
+                () -> InstanceCreationUtil.createItem(AbstractModel.class));
+    }
+
+    @Test
+    void ambiguousConstructorTest() {
+        TestDataGenerator testDataGenerator = new TestDataGenerator();
+        Assertions.assertThrows(InstanceCreationException.class,
+                () -> testDataGenerator.generate(AmbiguousConstructorModel.class));
+    }
+
+    @Test
+    void cachedConstructorTest() {
+        Supplier<Object> instantiator = InstanceCreationUtil.getInstantiator(CachedConstructorModel.class);
+        long hitsBefore = InstanceCreationUtil.getInstantiatorCacheHits();
+        CachedConstructorModel model1 = InstanceCreationUtil.createItem(CachedConstructorModel.class);
+        CachedConstructorModel model2 = InstanceCreationUtil.createItem(CachedConstructorModel.class);
+        Assertions.assertNotNull(model1);
+        Assertions.assertNotSame(model1, model2);
+        Assertions.assertTrue(InstanceCreationUtil.getInstantiatorCacheHits() >= hitsBefore + 2);
+        Assertions.assertTrue(InstanceCreationUtil.getInstantiatorCacheMisses() > 0);
+        Assertions.assertSame(instantiator, InstanceCreationUtil.getInstantiator(CachedConstructorModel.class));
+    }
+
+    @Test
+    void constructorExceptionTest() {
+        InstanceCreationException exception = Assertions.assertThrows(InstanceCreationException.class,
+                () -> InstanceCreationUtil.createItem(ThrowingConstructorModel.class));
+        Assertions.assertEquals(IllegalStateException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void nonBuilderFactoryMethodTest() {
+        UtilityFactoryModel model = new TestDataGenerator().generate(UtilityFactoryModel.class);
+        // static method that returns type with build method isn't used as builder unless it's named like builder
+        Assertions.assertNotNull(model.getStringField());
+    }
+
     @Test
     void nonPublicModelTest() {
         TestDataGenerator testDataGenerator = new TestDataGenerator();
@@ -42,10 +86,35 @@ class InstanceCreationUtilTest {
     }
 
     @Test
-    void withoutNoArgsConstructorTest() {
+    void nullPrimitiveArgumentTest() throws Exception {
+        TestDataGenerationContext context = ContextUtil.newContext();
+        context.getCustomFieldMappingStorage()
+                .addMapping(PrimitiveConstructorModel.class.getDeclaredField("intField"), config -> null);
+        PrimitiveConstructorModel model = new TestDataGenerator(context).generate(PrimitiveConstructorModel.class);
+        Assertions.assertEquals(0, model.getIntField());
+        Assertions.assertNotNull(model.getStringField());
+    }
+
+    @Test
+    void withInheritedFieldsConstructorTest() {
+        WithInheritedFieldsModel model = new TestDataGenerator().generate(WithInheritedFieldsModel.class);
+        Assertions.assertNotNull(model);
+        Assertions.assertTrue(model.getStringField().contains("stringField"));
+        Assertions.assertNotNull(model.getLongField());
+    }
+
+    @Test
+    void withoutMatchingConstructorTest() {
         TestDataGenerator testDataGenerator = new TestDataGenerator();
         Assertions.assertThrows(InstanceCreationException.class,
-                () -> testDataGenerator.generate(WithoutNoArgsConstructorModel.class));
+                () -> testDataGenerator.generate(WithoutMatchingConstructorModel.class));
+    }
+
+    @Test
+    void withoutNoArgsConstructorTest() {
+        WithoutNoArgsConstructorModel model = new TestDataGenerator().generate(WithoutNoArgsConstructorModel.class);
+        Assertions.assertNotNull(model);
+        Assertions.assertTrue(model.getStringField().contains("stringField"));
     }
 
     @Test
@@ -55,6 +124,30 @@ class InstanceCreationUtilTest {
                 () -> testDataGenerator.generate(WithoutPublicConstructorModel.class));
     }
 
+    public abstract static class AbstractModel {}
+
+    @Getter
+    public static class AmbiguousConstructorModel {
+
+        private final String firstStringField;
+        private final String secondStringField;
+
+        // parameters have the same type and can't be matched to fields by name
+        public AmbiguousConstructorModel(String first, String second) {
+            this.firstStringField = first;
+            this.secondStringField = second;
+        }
+    }
+
+    public static class CachedConstructorModel {}
+
+    public static class ThrowingConstructorModel {
+
+        public ThrowingConstructorModel() {
+            throw new IllegalStateException();
+        }
+    }
+
     @Getter
     @Setter
     public static class WithoutNoArgsConstructorModel {
@@ -66,6 +159,27 @@ class InstanceCreationUtilTest {
         }
     }
 
+    @Getter
+    public static class WithInheritedFieldsModel extends WithoutNoArgsConstructorModel {
+
+        private final Long longField;
+
+        public WithInheritedFieldsModel(String stringField, Long longField) {
+            super(stringField);
+            this.longField = longField;
+        }
+    }
+
+    @Getter
+    public static class WithoutMatchingConstructorModel {
+
+        private final String stringField;
+
+        public WithoutMatchingConstructorModel(int intValue) {
+            this.stringField = String.valueOf(intValue);
+        }
+    }
+
     @Getter
     @Setter
     public static class WithoutPublicConstructorModel {
@@ -76,6 +190,43 @@ class InstanceCreationUtilTest {
         }
     }
 
+    @Getter
+    public static class PrimitiveConstructorModel {
+
+        private final int intField;
+        private final String stringField;
+
+        public PrimitiveConstructorModel(int intField, String stringField) {
+            this.intField = intField;
+            this.stringField = stringField;
+        }
+    }
+
+    @Getter
+    public static class UtilityFactoryModel {
+
+        private final String stringField;
+
+        private UtilityFactoryModel(String stringField) {
+            this.stringField = stringField;
+        }
+
+        public static UtilityFactoryModel of(String stringField) {
+            return new UtilityFactoryModel(stringField);
+        }
+
+        public static UtilityFactoryHelper helper() {
+            return new UtilityFactoryHelper();
+        }
+    }
+
+    public static class UtilityFactoryHelper {
+
+        public UtilityFactoryModel build() {
+            return new UtilityFactoryModel(null);
+        }
+    }
+
     @Data
     static class NonPublicModel {
 
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.util;
+
+import com.github.vladislavsevruk.generator.test.data.config.RecursionPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class MemoryEstimationUtilTest {
+
+    @Test
+    void estimateShallowSizeOfBoxedValueTest() {
+        Assertions.assertEquals(16L, MemoryEstimationUtil.estimateShallowSize(1));
+        Assertions.assertEquals(24L, MemoryEstimationUtil.estimateShallowSize(1L));
+    }
+
+    @Test
+    void estimateShallowSizeOfDirectByteBufferTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(100);
+        Assertions.assertTrue(MemoryEstimationUtil.estimateShallowSize(buffer) > 100L);
+    }
+
+    @Test
+    void estimateShallowSizeOfEnumTest() {
+        Assertions.assertEquals(0L, MemoryEstimationUtil.estimateShallowSize(RecursionPolicy.SET_NULL));
+    }
+
+    @Test
+    void estimateShallowSizeOfLinkedMapIsGreaterThanHashMapTest() {
+        Map<Integer, Integer> hashMap = new HashMap<>();
+        Map<Integer, Integer> linkedHashMap = new LinkedHashMap<>();
+        for (int i = 0; i < 10; ++i) {
+            hashMap.put(i, i);
+            linkedHashMap.put(i, i);
+        }
+        Assertions.assertTrue(MemoryEstimationUtil.estimateShallowSize(linkedHashMap) > MemoryEstimationUtil
+                .estimateShallowSize(hashMap));
+    }
+
+    @Test
+    void estimateShallowSizeOfListGrowsWithItemsNumberTest() {
+        long smallListSize = MemoryEstimationUtil.estimateShallowSize(new ArrayList<>(Arrays.asList(1, 2)));
+        long bigListSize = MemoryEstimationUtil
+                .estimateShallowSize(new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+        Assertions.assertEquals(32L, bigListSize - smallListSize);
+    }
+
+    @Test
+    void estimateShallowSizeOfNullTest() {
+        Assertions.assertEquals(0L, MemoryEstimationUtil.estimateShallowSize(null));
+    }
+
+    @Test
+    void estimateShallowSizeOfPrimitiveArrayTest() {
+        Assertions.assertEquals(40L, MemoryEstimationUtil.estimateShallowSize(new long[3]));
+        Assertions.assertEquals(24L, MemoryEstimationUtil.estimateShallowSize(new byte[5]));
+        Assertions.assertEquals(16L, MemoryEstimationUtil.estimateShallowSize(new int[0]));
+    }
+
+    @Test
+    void estimateShallowSizeOfReferenceArrayTest() {
+        Assertions.assertEquals(32L, MemoryEstimationUtil.estimateShallowSize(new String[3]));
+    }
+}
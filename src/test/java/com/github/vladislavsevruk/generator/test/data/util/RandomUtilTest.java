@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.util;
+
+import com.github.vladislavsevruk.generator.test.data.config.TestDataGenerationConfig;
+import com.github.vladislavsevruk.generator.test.data.engine.GenerationSession;
+import com.github.vladislavsevruk.generator.test.data.random.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RandomUtilTest {
+
+    private static final int ATTEMPTS = 1000;
+
+    @Test
+    void fillBytesTest() {
+        TestDataGenerationConfig config = TestDataGenerationConfig.builder()
+                .randomSourceFactory(ConstantLongRandomSource::new).build();
+        byte[] bytes = new byte[10];
+        GenerationSession.runInNewSession(config, () -> {
+            RandomUtil.fillBytes(bytes);
+            return bytes;
+        });
+        Assertions.assertArrayEquals(new byte[]{ 1, 2, 3, 4, 5, 6, 7, 8, 1, 2 }, bytes);
+    }
+
+    @Test
+    void fillCharsRangeTest() {
+        char[] symbols = new char[]{ '-', '-', '-', '-' };
+        RandomUtil.fillChars(symbols, 1, 3);
+        Assertions.assertEquals('-', symbols[0]);
+        Assertions.assertTrue(Character.isLetterOrDigit(symbols[1]));
+        Assertions.assertTrue(Character.isLetterOrDigit(symbols[2]));
+        Assertions.assertEquals('-', symbols[3]);
+    }
+
+    @Test
+    void fillCharsTest() {
+        char[] symbols = new char[ATTEMPTS];
+        RandomUtil.fillChars(symbols);
+        for (char symbol : symbols) {
+            Assertions.assertTrue(symbol >= '0' && symbol <= '9' || symbol >= 'A' && symbol <= 'Z'
+                    || symbol >= 'a' && symbol <= 'z', "Unexpected symbol: " + symbol);
+        }
+    }
+
+    @Test
+    void fillDoublesTest() {
+        double[] values = new double[ATTEMPTS];
+        RandomUtil.fillDoubles(values, -1.5, 2.5);
+        for (double value : values) {
+            Assertions.assertTrue(value >= -1.5 && value < 2.5);
+        }
+    }
+
+    @Test
+    void fillFloatsTest() {
+        float[] values = new float[ATTEMPTS];
+        RandomUtil.fillFloats(values, -1.5F, 2.5F);
+        for (float value : values) {
+            Assertions.assertTrue(value >= -1.5F && value < 2.5F);
+        }
+    }
+
+    @Test
+    void fillFloatsWithNarrowRangeTest() {
+        float[] values = new float[ATTEMPTS];
+        float upperBound = Math.nextUp(1F);
+        RandomUtil.fillFloats(values, 1F, upperBound);
+        for (float value : values) {
+            Assertions.assertEquals(1F, value);
+        }
+    }
+
+    @Test
+    void fillIntsTest() {
+        int[] values = new int[ATTEMPTS];
+        RandomUtil.fillInts(values, -3, 4);
+        for (int value : values) {
+            Assertions.assertTrue(value >= -3 && value < 4);
+        }
+    }
+
+    @Test
+    void fillIntsWithInvalidBoundsTest() {
+        int[] values = new int[1];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomUtil.fillInts(values, 5, 5));
+    }
+
+    @Test
+    void fillLongsTest() {
+        long[] values = new long[ATTEMPTS];
+        RandomUtil.fillLongs(values, Long.MIN_VALUE + 1, Long.MAX_VALUE);
+        for (long value : values) {
+            Assertions.assertTrue(value > Long.MIN_VALUE && value < Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void fillShortsTest() {
+        short[] values = new short[ATTEMPTS];
+        RandomUtil.fillShorts(values, (short) -3, (short) 4);
+        for (short value : values) {
+            Assertions.assertTrue(value >= -3 && value < 4);
+        }
+    }
+
+    @Test
+    void getFloatWithNarrowRangeTest() {
+        float upperBound = Math.nextUp(1F);
+        for (int i = 0; i < ATTEMPTS; ++i) {
+            Assertions.assertEquals(1F, RandomUtil.getFloat(1F, upperBound));
+        }
+    }
+
+    @Test
+    void getStringTest() {
+        Assertions.assertEquals(16, RandomUtil.getString().length());
+        Assertions.assertEquals(3, RandomUtil.getString(3).length());
+    }
+
+    @Test
+    void nextDoubleTest() {
+        for (int i = 0; i < ATTEMPTS; ++i) {
+            double value = RandomUtil.nextDouble(-1.5, 2.5);
+            Assertions.assertTrue(value >= -1.5 && value < 2.5);
+        }
+    }
+
+    @Test
+    void nextIntOverflowRangeTest() {
+        for (int i = 0; i < ATTEMPTS; ++i) {
+            int value = RandomUtil.nextInt(Integer.MIN_VALUE + 1, Integer.MAX_VALUE);
+            Assertions.assertTrue(value > Integer.MIN_VALUE && value < Integer.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void nextIntTest() {
+        for (int i = 0; i < ATTEMPTS; ++i) {
+            int value = RandomUtil.nextInt(-3, 4);
+            Assertions.assertTrue(value >= -3 && value < 4);
+        }
+    }
+
+    @Test
+    void nextIntWithInvalidBoundsTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomUtil.nextInt(5, 5));
+    }
+
+    @Test
+    void nextLongOverflowRangeTest() {
+        for (int i = 0; i < ATTEMPTS; ++i) {
+            long value = RandomUtil.nextLong(Long.MIN_VALUE + 1, Long.MAX_VALUE);
+            Assertions.assertTrue(value > Long.MIN_VALUE && value < Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void nextLongTest() {
+        for (int i = 0; i < ATTEMPTS; ++i) {
+            long value = RandomUtil.nextLong(-3L, 4L);
+            Assertions.assertTrue(value >= -3L && value < 4L);
+        }
+    }
+
+    @Test
+    void nextLongWithInvalidBoundsTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomUtil.nextLong(5L, 1L));
+    }
+
+    private static final class ConstantLongRandomSource implements RandomSource {
+
+        @Override
+        public boolean nextBoolean() {
+            return false;
+        }
+
+        @Override
+        public double nextDouble() {
+            return 0;
+        }
+
+        @Override
+        public int nextInt() {
+            return 0;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return 0;
+        }
+
+        @Override
+        public long nextLong() {
+            return 0x0807060504030201L;
+        }
+    }
+}
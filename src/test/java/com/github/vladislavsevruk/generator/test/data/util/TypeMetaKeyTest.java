@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.test.data.util;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class TypeMetaKeyTest {
+
+    @Test
+    void differentGenericTypesTest() {
+        TypeMetaKey key1 = new TypeMetaKey(new TypeProvider<List<String>>() {}.getTypeMeta());
+        TypeMetaKey key2 = new TypeMetaKey(new TypeProvider<List<Integer>>() {}.getTypeMeta());
+        Assertions.assertNotEquals(key1, key2);
+    }
+
+    @Test
+    void differentTypesTest() {
+        TypeMetaKey key1 = new TypeMetaKey(new TypeMeta<>(String.class));
+        TypeMetaKey key2 = new TypeMetaKey(new TypeMeta<>(Integer.class));
+        Assertions.assertNotEquals(key1, key2);
+    }
+
+    @Test
+    void sameGenericTypesTest() {
+        TypeMetaKey key1 = new TypeMetaKey(new TypeProvider<Map<String, List<Long>>>() {}.getTypeMeta());
+        TypeMetaKey key2 = new TypeMetaKey(new TypeProvider<Map<String, List<Long>>>() {}.getTypeMeta());
+        Assertions.assertEquals(key1, key2);
+        Assertions.assertEquals(key1.hashCode(), key2.hashCode());
+    }
+
+    @Test
+    void sameTypesTest() {
+        TypeMetaKey key1 = new TypeMetaKey(new TypeMeta<>(String.class));
+        TypeMetaKey key2 = new TypeMetaKey(new TypeMeta<>(String.class));
+        Assertions.assertEquals(key1, key2);
+        Assertions.assertEquals(key1.hashCode(), key2.hashCode());
+    }
+}